@@ -0,0 +1,122 @@
+package com.catalogue.cache;
+
+import com.catalogue.dto.CatalogueItemResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookup cache in front of findBySku/findById. Every lookup served by the cache, or loaded into it by a
+ * service after a miss, is counted by the {@link HotSkuTracker}. Once {@code max-items} is reached an
+ * arbitrary item is evicted to make room; a {@code max-items} of 0 disables caching.
+ * <p>
+ * Items are only ever added by lookups and expire {@code ttl} after they were loaded; writes evict the item
+ * once committed. Every eviction bumps a write stamp, and a loaded item is only cached if no eviction happened
+ * since the stamp was taken before loading, so a lookup racing with a write can never cache the old item.
+ * The stamp is global as lookups by id do not know the SKU up front.
+ */
+@Component
+public class CatalogueItemCache {
+
+    private final Map<String, Entry> itemsBySku = new ConcurrentHashMap<>();
+    private final Map<Long, String> skusById = new ConcurrentHashMap<>();
+    private final AtomicLong writeStamp = new AtomicLong();
+    private final HotSkuTracker hotSkuTracker;
+    private final int maxItems;
+    private final long ttlNanos;
+
+    public CatalogueItemCache(HotSkuTracker hotSkuTracker,
+                              @Value("${catalogue.cache.max-items:10000}") int maxItems,
+                              @Value("${catalogue.cache.ttl:PT5M}") Duration ttl) {
+        this.hotSkuTracker = hotSkuTracker;
+        this.maxItems = maxItems;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<CatalogueItemResponse> getBySku(String sku) {
+        Entry entry = itemsBySku.get(sku);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.nanoTime(), ttlNanos)) {
+            if (itemsBySku.remove(sku, entry)) {
+                skusById.remove(entry.item().getId(), sku);
+            }
+            return Optional.empty();
+        }
+        hotSkuTracker.record(sku);
+        return Optional.of(entry.item());
+    }
+
+    public Optional<CatalogueItemResponse> getById(Long id) {
+        String sku = skusById.get(id);
+        return sku == null ? Optional.empty() : getBySku(sku);
+    }
+
+    /**
+     * @return stamp to take before loading an item and to hand to {@link #putLoaded}
+     */
+    public long writeStamp() {
+        return writeStamp.get();
+    }
+
+    /**
+     * Cache an item that was looked up and missed. An item cached in the meantime is kept, and nothing is
+     * cached if an item was evicted since {@code stamp} was taken.
+     */
+    public void putLoaded(CatalogueItemResponse item, long stamp) {
+        hotSkuTracker.record(item.getSku());
+        if (maxItems <= 0) {
+            return;
+        }
+        if (!itemsBySku.containsKey(item.getSku())) {
+            evictIfFull();
+        }
+        long now = System.nanoTime();
+        itemsBySku.compute(item.getSku(), (sku, cached) -> {
+            if (writeStamp.get() != stamp || (cached != null && !cached.isExpired(now, ttlNanos))) {
+                return cached;
+            }
+            skusById.put(item.getId(), sku);
+            return new Entry(item, now);
+        });
+    }
+
+    /**
+     * Drop the item of a SKU that was written, must be called once the write is committed.
+     */
+    public void evict(String sku) {
+        writeStamp.incrementAndGet();
+        remove(sku);
+    }
+
+    public int size() {
+        return itemsBySku.size();
+    }
+
+    private void remove(String sku) {
+        Entry entry = itemsBySku.remove(sku);
+        if (entry != null) {
+            skusById.remove(entry.item().getId(), sku);
+        }
+    }
+
+    private void evictIfFull() {
+        Iterator<String> skus = itemsBySku.keySet().iterator();
+        while (itemsBySku.size() >= maxItems && skus.hasNext()) {
+            remove(skus.next());
+        }
+    }
+
+    private record Entry(CatalogueItemResponse item, long loadedAtNanos) {
+        boolean isExpired(long nowNanos, long ttlNanos) {
+            return nowNanos - loadedAtNanos >= ttlNanos;
+        }
+    }
+}
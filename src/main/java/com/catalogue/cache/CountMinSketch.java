@@ -0,0 +1,66 @@
+package com.catalogue.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed size, thread safe frequency estimator. Estimates never undercount, and overcount by at most
+ * a small fraction of the total number of increments with high probability.
+ */
+public final class CountMinSketch {
+
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F, 0x165667B1, 0xD3A2646C};
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * @param depth number of hash rows, at most 6
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.depth = depth;
+        this.mask = rowWidth - 1;
+        this.counters = new AtomicIntegerArray(depth * rowWidth);
+    }
+
+    /**
+     * @return estimated frequency of the key including this increment
+     */
+    public int increment(Object key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(indexOf(hash, row)));
+        }
+        return estimate;
+    }
+
+    public int estimate(Object key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(indexOf(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halve every counter so that old accesses weigh less than recent ones.
+     */
+    public void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >>> 1);
+        }
+    }
+
+    private int indexOf(int hash, int row) {
+        int spread = hash * SEEDS[row];
+        spread ^= spread >>> 16;
+        return row * (mask + 1) + (spread & mask);
+    }
+}
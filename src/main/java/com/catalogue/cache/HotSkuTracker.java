@@ -0,0 +1,165 @@
+package com.catalogue.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how often each SKU is looked up with a {@link CountMinSketch}. Up to twice {@code top-n} SKUs are
+ * kept as candidates for the hot list; once full, a new SKU is only admitted if its estimated frequency beats
+ * the coldest candidate, which it then replaces (TinyLFU-style admission). Every persist interval the
+ * candidates are trimmed to the {@code top-n} hottest, the hot list is written to the local hot SKU file for
+ * the next warm-up, and the sketch is aged so that the ranking follows recent traffic. Recording can be paused,
+ * e.g. while warm-up replays the previous hot list.
+ */
+@Slf4j
+@Component
+public class HotSkuTracker {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int MIN_SKETCH_WIDTH = 1024;
+
+    private final CountMinSketch sketch;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+    /**
+     * Candidates by the estimate they had when last looked at, guarded by this tracker's lock.
+     */
+    private final PriorityQueue<Candidate> coldestFirst = new PriorityQueue<>(Comparator.comparingInt(Candidate::estimate));
+    private final int topN;
+    private final Path hotSkusFile;
+    private volatile boolean recording = true;
+
+    public HotSkuTracker(@Value("${catalogue.warm-up.top-n:500}") int topN,
+                         @Value("${catalogue.warm-up.hot-skus-file:data/catalogue-hot-skus.txt}") String hotSkusFile) {
+        this.topN = topN;
+        this.hotSkusFile = Paths.get(hotSkusFile);
+        this.sketch = new CountMinSketch(SKETCH_DEPTH, Math.max(topN * 16, MIN_SKETCH_WIDTH));
+    }
+
+    public void record(String sku) {
+        if (!recording) {
+            return;
+        }
+        sketch.increment(sku);
+        if (!candidates.contains(sku)) {
+            admit(sku);
+        }
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Estimates keep moving while lookups are recorded, they are snapshot once per candidate before sorting.
+     *
+     * @return up to {@code top-n} most frequently looked up SKUs, hottest first
+     */
+    public List<String> hotSkus() {
+        return candidates.stream()
+                .map(sku -> new Candidate(sku, sketch.estimate(sku)))
+                .sorted(Comparator.comparingInt(Candidate::estimate).reversed())
+                .limit(topN)
+                .map(Candidate::sku)
+                .toList();
+    }
+
+    /**
+     * @return hot SKUs persisted by a previous run, hottest first, or none if there is no hot SKU file
+     */
+    public List<String> loadPersisted() {
+        if (!Files.exists(hotSkusFile)) {
+            log.info("No hot SKU file found at {}", hotSkusFile);
+            return List.of();
+        }
+        try (var lines = Files.lines(hotSkusFile)) {
+            return lines.map(String::trim).filter(sku -> !sku.isEmpty()).limit(topN).toList();
+        } catch (IOException e) {
+            log.warn("Could not read hot SKU file {}", hotSkusFile, e);
+            return List.of();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalogue.warm-up.persist-interval-ms:60000}",
+            fixedDelayString = "${catalogue.warm-up.persist-interval-ms:60000}")
+    public void persist() {
+        List<String> hotSkus;
+        synchronized (this) {
+            hotSkus = hotSkus();
+            if (hotSkus.isEmpty()) {
+                return;
+            }
+            candidates.retainAll(hotSkus);
+            sketch.age();
+            // aging halved every count, the estimates held by the queue are stale
+            coldestFirst.clear();
+            candidates.forEach(sku -> coldestFirst.add(new Candidate(sku, sketch.estimate(sku))));
+        }
+        try {
+            Path directory = Files.createDirectories(hotSkusFile.toAbsolutePath().getParent());
+            Path tempFile = Files.createTempFile(directory, "hot-skus", ".tmp");
+            Files.write(tempFile, hotSkus);
+            Files.move(tempFile, hotSkusFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Persisted {} hot SKUs to {}", hotSkus.size(), hotSkusFile);
+        } catch (IOException e) {
+            log.warn("Could not write hot SKU file {}", hotSkusFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+
+    private synchronized void admit(String sku) {
+        if (candidates.contains(sku)) {
+            return;
+        }
+        int estimate = sketch.estimate(sku);
+        if (candidates.size() >= topN * 2) {
+            Candidate coldest = coldestCandidate();
+            if (coldest == null || coldest.estimate() >= estimate) {
+                return;
+            }
+            coldestFirst.poll();
+            candidates.remove(coldest.sku());
+        }
+        candidates.add(sku);
+        coldestFirst.add(new Candidate(sku, estimate));
+    }
+
+    /**
+     * Counts only grow between two agings, so the queued estimates are lower bounds: the head is refreshed
+     * until it has not grown since it was queued, at which point no other candidate can be colder.
+     *
+     * @return coldest candidate, left at the head of the queue with its current estimate
+     */
+    private Candidate coldestCandidate() {
+        Candidate head;
+        while ((head = coldestFirst.peek()) != null) {
+            int estimate = sketch.estimate(head.sku());
+            if (estimate <= head.estimate()) {
+                return head;
+            }
+            coldestFirst.poll();
+            coldestFirst.add(new Candidate(head.sku(), estimate));
+        }
+        return null;
+    }
+
+    private record Candidate(String sku, int estimate) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.catalogue.cache;
+
+import com.catalogue.models.PriceHistory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Recent price history of hot SKUs, kept as {@link PriceTimeline}s. A SKU enters the cache when its history
+ * is first queried and is kept up to date by price changes afterwards; once {@code max-skus} is reached an
+ * arbitrary SKU is evicted to make room.
+ * <p>
+ * Every append bumps a write stamp of the SKU (striped, shared by SKUs with the same hash). A history loaded from
+ * the database is only cached if no change was appended since its stamp was taken, so a load racing with a price
+ * change can never cache a timeline missing that change.
+ */
+@Component
+public class PriceHistoryCache {
+
+    private static final int WRITE_STAMP_STRIPES = 1024;
+
+    private final Map<String, PriceTimeline> timelines = new ConcurrentHashMap<>();
+    private final AtomicLongArray writeStamps = new AtomicLongArray(WRITE_STAMP_STRIPES);
+    private final int maxSkus;
+    private final int entriesPerSku;
+
+    public PriceHistoryCache(@Value("${catalogue.price-history.cache.max-skus:10000}") int maxSkus,
+                             @Value("${catalogue.price-history.cache.entries-per-sku:32}") int entriesPerSku) {
+        this.maxSkus = maxSkus;
+        this.entriesPerSku = entriesPerSku;
+    }
+
+    public Optional<PriceTimeline> get(String sku) {
+        return Optional.ofNullable(timelines.get(sku));
+    }
+
+    /**
+     * @return number of most recent changes to load per SKU, one more than kept to detect a complete history
+     */
+    public int loadSize() {
+        return entriesPerSku + 1;
+    }
+
+    /**
+     * @return stamp to take before loading the history of the SKU and to hand to {@link #put}
+     */
+    public long writeStamp(String sku) {
+        return writeStamps.get(stripe(sku));
+    }
+
+    /**
+     * @param sku
+     * @param recentChanges at most {@link #loadSize()} most recent changes of the SKU, newest first
+     * @param writeStamp    {@link #writeStamp(String)} taken before the changes were loaded
+     * @return timeline of the loaded changes, only cached if no change was appended in the meantime
+     */
+    public PriceTimeline put(String sku, List<PriceHistory> recentChanges, long writeStamp) {
+        int size = Math.min(recentChanges.size(), entriesPerSku);
+        long[] changedAt = new long[size];
+        double[] prices = new double[size];
+        for (int i = 0; i < size; i++) {
+            PriceHistory change = recentChanges.get(size - 1 - i);
+            changedAt[i] = change.getChangedAt().toEpochMilli();
+            prices[i] = change.getPrice();
+        }
+        PriceTimeline timeline = new PriceTimeline(changedAt, prices, recentChanges.size() <= entriesPerSku);
+        evictIfFull();
+        timelines.compute(sku, (key, cached) -> writeStamps.get(stripe(sku)) == writeStamp ? timeline : cached);
+        return timeline;
+    }
+
+    /**
+     * Record a committed price change. SKUs that are not cached are left out, a change the cached timeline
+     * already holds is not added twice.
+     */
+    public void append(String sku, long changedAtMillis, double price) {
+        writeStamps.incrementAndGet(stripe(sku));
+        timelines.computeIfPresent(sku, (key, timeline) -> timeline.with(changedAtMillis, price, entriesPerSku));
+    }
+
+    public void evict(String sku) {
+        timelines.remove(sku);
+    }
+
+    private static int stripe(String sku) {
+        return sku.hashCode() & (WRITE_STAMP_STRIPES - 1);
+    }
+
+    private void evictIfFull() {
+        Iterator<String> skus = timelines.keySet().iterator();
+        while (timelines.size() >= maxSkus && skus.hasNext()) {
+            skus.next();
+            skus.remove();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.catalogue.cache;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, compact price history of one SKU: parallel primitive arrays of change time (epoch millis)
+ * and price, sorted by change time. Holds at most the most recent entries of the history; {@code complete}
+ * tells whether the arrays also reach back to the very first price of the SKU.
+ */
+public final class PriceTimeline {
+
+    private final long[] changedAt;
+    private final double[] prices;
+    private final boolean complete;
+
+    PriceTimeline(long[] changedAt, double[] prices, boolean complete) {
+        this.changedAt = changedAt;
+        this.prices = prices;
+        this.complete = complete;
+    }
+
+    /**
+     * @param asOfMillis
+     * @return true if the price as of the given time can be answered from this timeline alone
+     */
+    public boolean covers(long asOfMillis) {
+        return complete || (changedAt.length > 0 && asOfMillis >= changedAt[0]);
+    }
+
+    /**
+     * @param asOfMillis
+     * @return index of the last change at or before the given time, or -1 if the SKU had no price yet
+     */
+    public int indexAsOf(long asOfMillis) {
+        int index = Arrays.binarySearch(changedAt, asOfMillis);
+        if (index >= 0) {
+            // several changes in the same millisecond: the last one wins
+            while (index + 1 < changedAt.length && changedAt[index + 1] == asOfMillis) {
+                index++;
+            }
+            return index;
+        }
+        return -index - 2;
+    }
+
+    public long changedAt(int index) {
+        return changedAt[index];
+    }
+
+    public double price(int index) {
+        return prices[index];
+    }
+
+    public int size() {
+        return changedAt.length;
+    }
+
+    /**
+     * Copy-on-write insert keeping the arrays sorted, dropping the oldest entry once {@code maxEntries} is reached.
+     *
+     * @return new timeline including the change, or this timeline if it already holds the change
+     */
+    PriceTimeline with(long changedAtMillis, double price, int maxEntries) {
+        int position = indexAsOf(changedAtMillis) + 1;
+        for (int i = position - 1; i >= 0 && changedAt[i] == changedAtMillis; i--) {
+            if (prices[i] == price) {
+                return this;
+            }
+        }
+        long[] mergedChangedAt = new long[changedAt.length + 1];
+        double[] mergedPrices = new double[prices.length + 1];
+        System.arraycopy(changedAt, 0, mergedChangedAt, 0, position);
+        System.arraycopy(prices, 0, mergedPrices, 0, position);
+        mergedChangedAt[position] = changedAtMillis;
+        mergedPrices[position] = price;
+        System.arraycopy(changedAt, position, mergedChangedAt, position + 1, changedAt.length - position);
+        System.arraycopy(prices, position, mergedPrices, position + 1, prices.length - position);
+
+        int from = Math.max(0, mergedChangedAt.length - maxEntries);
+        return new PriceTimeline(Arrays.copyOfRange(mergedChangedAt, from, mergedChangedAt.length),
+                Arrays.copyOfRange(mergedPrices, from, mergedPrices.length), complete && from == 0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.catalogue.config;
+
+import com.catalogue.controller.CatalogueMediaTypes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers the binary Smile and CBOR codecs with the same Jackson customizations as the JSON codecs.
+ * Smile can be streamed ({@code application/stream+x-jackson-smile}), CBOR only encodes single values.
+ * <p>
+ * JSON/NDJSON stay the default for clients that accept anything: Smile takes the default Smile slot, which
+ * comes after JSON, and CBOR, which has no default slot and would otherwise be picked first, is only
+ * written when explicitly requested. The mime types are passed explicitly, without them the Jackson codecs
+ * fall back to the JSON mime types.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CodecConfiguration implements WebFluxConfigurer {
+
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            MimeType.valueOf(CatalogueMediaTypes.APPLICATION_SMILE),
+            new MimeType("application", "*+x-jackson-smile")
+    };
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper smileMapper = objectMapperBuilder.getObject().factory(new SmileFactory()).build();
+        ObjectMapper cborMapper = objectMapperBuilder.getObject().factory(new CBORFactory()).build();
+
+        Jackson2SmileEncoder smileEncoder = new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES);
+        smileEncoder.setStreamingMediaTypes(List.of(MediaType.parseMediaType(CatalogueMediaTypes.APPLICATION_STREAM_SMILE)));
+        configurer.defaultCodecs().jackson2SmileEncoder(smileEncoder);
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+        configurer.customCodecs().register(new ExplicitCborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+    }
+
+    /**
+     * CBOR encoder that does not take part in content negotiation for {@code *}{@code /*}, it only encodes
+     * when {@code application/cbor} was selected. {@link Jackson2CborEncoder} rejects every publisher, single
+     * values are encoded here instead.
+     */
+    private static class ExplicitCborEncoder extends Jackson2CborEncoder {
+
+        ExplicitCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+            return mimeType != null && super.canEncode(elementType, mimeType);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
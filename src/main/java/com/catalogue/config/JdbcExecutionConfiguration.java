@@ -0,0 +1,103 @@
+package com.catalogue.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@Profile(JdbcExecutionConfiguration.JDBC_PROFILE)
+public class JdbcExecutionConfiguration {
+
+    public static final String JDBC_PROFILE = "jdbc";
+
+    /**
+     * Boot's DataSourceAutoConfiguration backs off as soon as an R2DBC ConnectionFactory exists, so the
+     * datasource is bound from {@code spring.datasource.*} here.
+     *
+     * @return dataSourceProperties
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * @return Hikari pool configured from {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Scheduler on which every blocking JDBC call is dispatched so that it never runs on a Netty event loop.
+     * Uses a virtual-thread-per-task executor when the running JVM provides one, otherwise falls back to a
+     * bounded elastic scheduler capped at the Hikari pool size.
+     *
+     * @return jdbcScheduler
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${catalogue.jdbc.virtual-threads:true}") boolean virtualThreads,
+                                   @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        if (virtualThreads) {
+            Optional<ExecutorService> executor = virtualThreadExecutor();
+            if (executor.isPresent()) {
+                log.info("Dispatching JDBC calls on virtual threads");
+                return Schedulers.fromExecutorService(executor.get(), "jdbc-virtual");
+            }
+            log.warn("Virtual threads are not available on Java {}, falling back to bounded elastic scheduler",
+                    Runtime.version().feature());
+        }
+        log.info("Dispatching JDBC calls on bounded elastic scheduler of {} threads", poolSize);
+        return Schedulers.newBoundedElastic(poolSize, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "jdbc");
+    }
+
+    /**
+     * Transactions of the JDBC backed service. The transaction manager is deliberately not exposed as a bean,
+     * the R2DBC transaction manager stays the application's default.
+     *
+     * @return jdbcTransactionTemplate
+     */
+    @Bean
+    public TransactionTemplate jdbcTransactionTemplate(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Looked up reflectively as the project still compiles against Java 17.
+     *
+     * @return virtual thread per task executor if supported by the running JVM
+     */
+    private static Optional<ExecutorService> virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.catalogue.controller;
 
+import com.catalogue.dto.BulkDeleteResponse;
 import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.dto.PriceHistoryResponse;
+import com.catalogue.dto.ReconcileEvent;
 import com.catalogue.models.CatalogueItem;
 import com.catalogue.service.CatalogueService;
+import com.catalogue.service.PriceHistoryService;
+import com.catalogue.service.ReconcileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -11,6 +16,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -18,13 +25,15 @@ import reactor.core.publisher.Mono;
 public class CatalogueController {
 
     private final CatalogueService catalogueService;
+    private final PriceHistoryService priceHistoryService;
+    private final ReconcileService reconcileService;
 
     /**
      * Find All Catalogue Items available in database
      *
      * @return catalogueItems
      */
-    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEMS_STREAM, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEMS_STREAM, produces = {MediaType.APPLICATION_NDJSON_VALUE, CatalogueMediaTypes.APPLICATION_STREAM_SMILE})
     @ResponseStatus(value = HttpStatus.OK)
     public Flux<CatalogueItemResponse> findAllCatalogueItems() {
         return catalogueService.getCatalogueItems();
@@ -37,7 +46,7 @@ public class CatalogueController {
      * @return CatalogueItemResponse
      */
     @ResponseStatus(value = HttpStatus.OK)
-    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEM_BY_ID, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEM_BY_ID, produces = {MediaType.APPLICATION_NDJSON_VALUE, CatalogueMediaTypes.APPLICATION_CBOR, CatalogueMediaTypes.APPLICATION_SMILE})
     public Mono<CatalogueItemResponse> findById(@PathVariable Long id) {
         return catalogueService.findById(id);
     }
@@ -49,7 +58,7 @@ public class CatalogueController {
      * @return CatalogueItem
      */
     @ResponseStatus(value = HttpStatus.OK)
-    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEM_BY_SKU)
+    @GetMapping(path = CatalogueControllerApiPaths.GET_ITEM_BY_SKU, produces = {MediaType.APPLICATION_JSON_VALUE, CatalogueMediaTypes.APPLICATION_CBOR, CatalogueMediaTypes.APPLICATION_SMILE})
     public Mono<CatalogueItemResponse> findBySku(@PathVariable String sku) {
         return catalogueService.findBySku(sku);
     }
@@ -90,4 +99,58 @@ public class CatalogueController {
     public Mono<Void> removeCatalogueItem(@PathVariable String sku) {
         return catalogueService.removeCatalogueItem(sku);
     }
+
+    /**
+     * Delete Catalogue Items by SKU in bulk, the request body is streamed as plain text with one SKU per line
+     *
+     * @param skus
+     * @return BulkDeleteResponse
+     */
+    @ResponseStatus(value = HttpStatus.OK)
+    @PostMapping(path = CatalogueControllerApiPaths.BULK_DELETE, consumes = MediaType.TEXT_PLAIN_VALUE)
+    public Mono<BulkDeleteResponse> removeCatalogueItems(@RequestBody Flux<String> skus) {
+        return catalogueService.removeCatalogueItems(skus.map(String::trim).filter(sku -> !sku.isEmpty()));
+    }
+
+    /**
+     * Find the price of a Catalogue Item effective at a point in time
+     *
+     * @param sku
+     * @param asOf ISO-8601 instant
+     * @return PriceHistoryResponse
+     */
+    @ResponseStatus(value = HttpStatus.OK)
+    @GetMapping(path = CatalogueControllerApiPaths.GET_PRICE_AS_OF)
+    public Mono<PriceHistoryResponse> findPriceAsOf(@PathVariable String sku,
+                                                    @RequestParam Instant asOf) {
+        return priceHistoryService.findPriceAsOf(sku, asOf);
+    }
+
+    /**
+     * Stream the price history of a Catalogue Item, oldest change first
+     *
+     * @param sku
+     * @return priceHistory
+     */
+    @ResponseStatus(value = HttpStatus.OK)
+    @GetMapping(path = CatalogueControllerApiPaths.GET_PRICE_HISTORY_STREAM, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PriceHistoryResponse> findPriceHistory(@PathVariable String sku) {
+        return priceHistoryService.getPriceHistory(sku);
+    }
+
+    /**
+     * Reconcile a supplier feed, streamed as NDJSON sorted by SKU, with the stored Catalogue Items.
+     * With apply=true the changes are committed in batches, a feed failing part way is partially applied:
+     * exactly the events streamed before the response is cut off.
+     *
+     * @param feed
+     * @param apply apply the differences to the catalogue as well
+     * @return INSERT, UPDATE and DELETE events in SKU order
+     */
+    @ResponseStatus(value = HttpStatus.OK)
+    @PostMapping(path = CatalogueControllerApiPaths.RECONCILE, consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ReconcileEvent> reconcileCatalogueItems(@RequestBody Flux<CatalogueItem> feed,
+                                                        @RequestParam(defaultValue = "false") boolean apply) {
+        return reconcileService.reconcile(feed, apply);
+    }
 }
@@ -13,6 +13,10 @@ public class CatalogueControllerApiPaths {
     public static final String GET_ITEM_BY_ID = "id/{id}";
     public static final String UPDATE = "/{sku}";
     public static final String DELETE = "/{sku}";
+    public static final String BULK_DELETE = "/bulk-delete";
+    public static final String RECONCILE = "/reconcile";
+    public static final String GET_PRICE_AS_OF = "/{sku}/price";
+    public static final String GET_PRICE_HISTORY_STREAM = "/{sku}/price/history";
     public static final String UPLOAD_IMAGE = "/{sku}/image";
     public static final String GET_ITEMS_WS_EVENTS = BASE_PATH + "/ws/events";
 }
\ No newline at end of file
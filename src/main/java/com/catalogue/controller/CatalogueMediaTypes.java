@@ -0,0 +1,11 @@
+package com.catalogue.controller;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CatalogueMediaTypes {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_STREAM_SMILE = "application/stream+x-jackson-smile";
+}
@@ -0,0 +1,88 @@
+package com.catalogue.controller;
+
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.models.CatalogueItem;
+import com.catalogue.service.CatalogueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RSocket counterpart of {@link CatalogueController} for service-to-service traffic. All interactions of a
+ * client are multiplexed over its single TCP connection, and payloads use whatever data MIME type the client
+ * set up the connection with (CBOR preferred, JSON supported).
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class CatalogueRSocketController {
+
+    private static final int UPDATE_CONCURRENCY = 16;
+
+    private final CatalogueService catalogueService;
+
+    /**
+     * Request-Response: Find By sku
+     *
+     * @param sku
+     * @return CatalogueItemResponse
+     */
+    @MessageMapping(CatalogueRSocketRoutes.GET_ITEM_BY_SKU)
+    public Mono<CatalogueItemResponse> findBySku(@DestinationVariable String sku) {
+        return catalogueService.findBySku(sku);
+    }
+
+    /**
+     * Request-Response: Find By id
+     *
+     * @param id
+     * @return CatalogueItemResponse
+     */
+    @MessageMapping(CatalogueRSocketRoutes.GET_ITEM_BY_ID)
+    public Mono<CatalogueItemResponse> findById(@DestinationVariable Long id) {
+        return catalogueService.findById(id);
+    }
+
+    /**
+     * Request-Stream: Find All Catalogue Items, emitted as the requester signals demand (request-N)
+     *
+     * @return catalogueItems
+     */
+    @MessageMapping(CatalogueRSocketRoutes.GET_ITEMS_STREAM)
+    public Flux<CatalogueItemResponse> findAllCatalogueItems() {
+        return catalogueService.getCatalogueItems();
+    }
+
+    /**
+     * Request-Response: Create Catalogue Item
+     *
+     * @param catalogueItem
+     * @return created CatalogueItemResponse
+     */
+    @MessageMapping(CatalogueRSocketRoutes.CREATE)
+    public Mono<CatalogueItemResponse> createCatalogueItem(CatalogueItem catalogueItem) {
+        return catalogueService.createCatalogueItem(catalogueItem);
+    }
+
+    /**
+     * Request-Channel: Bulk update of Catalogue Items by SKU. Updated items are emitted in request order,
+     * unknown SKUs are skipped so that one missing item does not cancel the whole channel.
+     *
+     * @param catalogueItems
+     * @return updated CatalogueItemResponses
+     */
+    @MessageMapping(CatalogueRSocketRoutes.UPDATE_CHANNEL)
+    public Flux<CatalogueItemResponse> updateCatalogueItems(Flux<CatalogueItem> catalogueItems) {
+        return catalogueItems.flatMapSequential(catalogueItem -> catalogueService
+                .updateCatalogueItem(catalogueItem.getSku(), catalogueItem)
+                .onErrorResume(ItemNotFoundException.class, ex -> {
+                    log.warn("Catalogue Item {} was not found, skipping update", catalogueItem.getSku());
+                    return Mono.empty();
+                }), UPDATE_CONCURRENCY);
+    }
+}
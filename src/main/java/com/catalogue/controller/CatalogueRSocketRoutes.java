@@ -0,0 +1,13 @@
+package com.catalogue.controller;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CatalogueRSocketRoutes {
+
+    public static final String GET_ITEM_BY_SKU = "catalogue.sku.{sku}";
+    public static final String GET_ITEM_BY_ID = "catalogue.id.{id}";
+    public static final String GET_ITEMS_STREAM = "catalogue.stream";
+    public static final String CREATE = "catalogue.create";
+    public static final String UPDATE_CHANNEL = "catalogue.update";
+}
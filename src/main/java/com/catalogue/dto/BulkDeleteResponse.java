@@ -0,0 +1,17 @@
+package com.catalogue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkDeleteResponse {
+
+    private long requested;
+    private long deleted;
+
+}
@@ -0,0 +1,20 @@
+package com.catalogue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PriceHistoryResponse {
+
+    private String sku;
+    private Double price;
+    private Instant changedAt;
+
+}
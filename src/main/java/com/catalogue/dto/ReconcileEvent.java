@@ -0,0 +1,28 @@
+package com.catalogue.dto;
+
+import com.catalogue.models.CatalogueItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One difference between a supplier feed and the stored catalogue: {@code current} is the stored item
+ * (absent for INSERT), {@code target} the feed item (absent for DELETE).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReconcileEvent {
+
+    public enum Type {INSERT, UPDATE, DELETE}
+
+    private Type type;
+    private String sku;
+    private CatalogueItemResponse current;
+    private CatalogueItem target;
+
+}
@@ -45,5 +45,9 @@ public class CatalogueItem {
     @LastModifiedDate
     @Column(value = "UPDATED_ON")
     private Instant updatedOn;
+    @Column(value = "DELETED")
+    private Boolean deleted;
+    @Column(value = "DELETED_ON")
+    private Instant deletedOn;
 
 }
\ No newline at end of file
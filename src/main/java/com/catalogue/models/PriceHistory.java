@@ -0,0 +1,27 @@
+package com.catalogue.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Table("PRICE_HISTORY")
+public class PriceHistory {
+
+    @Id
+    private Long id;
+    @Column(value = "SKU_NUMBER")
+    private String sku;
+    @Column(value = "PRICE")
+    private Double price;
+    @Column(value = "CHANGED_AT")
+    private Instant changedAt;
+
+}
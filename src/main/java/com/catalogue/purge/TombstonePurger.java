@@ -0,0 +1,118 @@
+package com.catalogue.purge;
+
+import com.catalogue.repository.CatalogueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Physically removes tombstoned catalogue items. Runs only inside the configured low-traffic window, deletes
+ * in batches of {@code batch-size} rows with {@code throttle} between batches and at most {@code max-batches}
+ * per run, so that mass delistings never hold long locks on CATALOGUE_ITEMS. A run also stops when the window
+ * closes or after {@code max-run-duration}. The remaining tombstones are published as the
+ * {@code catalogue.purge.backlog} gauge, refreshed on every scheduled tick, inside the window or not.
+ */
+@Slf4j
+@Component
+public class TombstonePurger {
+
+    private final CatalogueRepository catalogueRepository;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter purged;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration throttle;
+    private final Duration maxRunDuration;
+
+    public TombstonePurger(CatalogueRepository catalogueRepository, MeterRegistry meterRegistry,
+                           @Value("${catalogue.purge.window-start:01:00}") String windowStart,
+                           @Value("${catalogue.purge.window-end:05:00}") String windowEnd,
+                           @Value("${catalogue.purge.batch-size:500}") int batchSize,
+                           @Value("${catalogue.purge.max-batches:1000}") int maxBatches,
+                           @Value("${catalogue.purge.throttle:PT0.2S}") Duration throttle,
+                           @Value("${catalogue.purge.max-run-duration:PT10M}") Duration maxRunDuration) {
+        this.catalogueRepository = catalogueRepository;
+        this.windowStart = LocalTime.parse(windowStart);
+        this.windowEnd = LocalTime.parse(windowEnd);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.throttle = throttle;
+        this.maxRunDuration = maxRunDuration;
+        this.purged = Counter.builder("catalogue.purge.purged")
+                .description("Tombstoned catalogue items physically removed")
+                .register(meterRegistry);
+        Gauge.builder("catalogue.purge.backlog", backlog, AtomicLong::get)
+                .description("Tombstoned catalogue items waiting to be purged")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts a run inside the purge window unless the previous one is still going, otherwise only refreshes the
+     * backlog gauge. Both are subscribed asynchronously, so the scheduling thread is released right away.
+     */
+    @Scheduled(initialDelayString = "${catalogue.purge.interval-ms:60000}",
+            fixedDelayString = "${catalogue.purge.interval-ms:60000}")
+    public void purge() {
+        if (!inPurgeWindow(LocalTime.now()) || !running.compareAndSet(false, true)) {
+            refreshBacklog().subscribe(null, error -> log.warn("Tombstone backlog refresh failed", error));
+            return;
+        }
+        purgeTombstones()
+                .doFinally(signal -> running.set(false))
+                .subscribe(removed -> log.info("Purged {} tombstoned Catalogue Items", removed),
+                        error -> log.error("Tombstone purge failed", error));
+    }
+
+    /**
+     * @return number of items removed by this run, emitted once the backlog gauge has been refreshed
+     */
+    Mono<Integer> purgeTombstones() {
+        return Flux.range(0, maxBatches)
+                .takeWhile(batch -> inPurgeWindow(LocalTime.now()))
+                .concatMap(batch -> batch == 0 ? purgeBatch() : Mono.delay(throttle).then(purgeBatch()))
+                .takeUntil(removedInBatch -> removedInBatch < batchSize)
+                .take(maxRunDuration)
+                .reduce(0, Integer::sum)
+                .flatMap(removed -> refreshBacklog().thenReturn(removed));
+    }
+
+    /**
+     * @return number of tombstones left, emitted once the backlog gauge has been set to it
+     */
+    Mono<Long> refreshBacklog() {
+        return catalogueRepository.countByDeletedTrue()
+                .doOnNext(backlog::set);
+    }
+
+    /**
+     * @return true if the time is inside the purge window, a window starting and ending at the same time is always open
+     */
+    boolean inPurgeWindow(LocalTime time) {
+        if (windowStart.equals(windowEnd)) {
+            return true;
+        }
+        if (windowStart.isBefore(windowEnd)) {
+            return !time.isBefore(windowStart) && time.isBefore(windowEnd);
+        }
+        return !time.isBefore(windowStart) || time.isBefore(windowEnd);
+    }
+
+    private Mono<Integer> purgeBatch() {
+        return catalogueRepository.purgeTombstones(batchSize)
+                .doOnNext(removed -> purged.increment(removed));
+    }
+}
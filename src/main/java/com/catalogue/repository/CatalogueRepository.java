@@ -1,13 +1,52 @@
 package com.catalogue.repository;
 
 import com.catalogue.models.CatalogueItem;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Deleted items stay in CATALOGUE_ITEMS as tombstones (DELETED = TRUE) until purged, readers must only use
+ * the {@code DeletedFalse} finders. SKU lookups are served by IDX_CATALOGUE_ITEMS_SKU_DELETED.
+ */
 @Repository
 public interface CatalogueRepository extends ReactiveCrudRepository<CatalogueItem, Long> {
-    Mono<CatalogueItem> findBySku(String sku);
 
-    Mono<CatalogueItem> deleteBySku(String sku);
+    Flux<CatalogueItem> findByDeletedFalse();
+
+    Flux<CatalogueItem> findByDeletedFalseOrderBySkuAsc();
+
+    Mono<CatalogueItem> findByIdAndDeletedFalse(Long id);
+
+    Mono<CatalogueItem> findBySkuAndDeletedFalse(String sku);
+
+    @Modifying
+    @Query("UPDATE CATALOGUE_ITEMS SET PRICE = :price, UPDATED_ON = :updatedOn WHERE ID = :id AND DELETED = FALSE")
+    Mono<Integer> updatePrice(Long id, Double price, Instant updatedOn);
+
+    @Modifying
+    @Query("UPDATE CATALOGUE_ITEMS SET ITEM_NAME = :name, DESCRIPTION = :description, CATEGORY = :category, PRICE = :price, "
+            + "INVENTORY = :inventory, UPDATED_ON = :updatedOn WHERE ID = :id AND DELETED = FALSE")
+    Mono<Integer> updateContent(Long id, String name, String description, String category, Double price, Integer inventory,
+                                Instant updatedOn);
+
+    @Modifying
+    @Query("UPDATE CATALOGUE_ITEMS SET DELETED = TRUE, DELETED_ON = :deletedOn WHERE SKU_NUMBER = :sku AND DELETED = FALSE")
+    Mono<Integer> softDeleteBySku(String sku, Instant deletedOn);
+
+    @Modifying
+    @Query("UPDATE CATALOGUE_ITEMS SET DELETED = TRUE, DELETED_ON = :deletedOn WHERE SKU_NUMBER IN (:skus) AND DELETED = FALSE")
+    Mono<Integer> softDeleteBySkuIn(Collection<String> skus, Instant deletedOn);
+
+    Mono<Long> countByDeletedTrue();
+
+    @Modifying
+    @Query("DELETE FROM CATALOGUE_ITEMS WHERE ID IN (SELECT ID FROM CATALOGUE_ITEMS WHERE DELETED = TRUE ORDER BY ID LIMIT :batchSize)")
+    Mono<Integer> purgeTombstones(int batchSize);
 }
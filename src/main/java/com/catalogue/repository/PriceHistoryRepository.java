@@ -0,0 +1,23 @@
+package com.catalogue.repository;
+
+import com.catalogue.models.PriceHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * All lookups are by SKU_NUMBER and ordered by CHANGED_AT, so they are served by IDX_PRICE_HISTORY_SKU_CHANGED_AT.
+ */
+@Repository
+public interface PriceHistoryRepository extends ReactiveCrudRepository<PriceHistory, Long> {
+
+    Mono<PriceHistory> findFirstBySkuAndChangedAtLessThanEqualOrderByChangedAtDesc(String sku, Instant asOf);
+
+    Flux<PriceHistory> findBySkuOrderByChangedAtAsc(String sku);
+
+    Flux<PriceHistory> findBySkuOrderByChangedAtDesc(String sku, Pageable pageable);
+}
@@ -0,0 +1,130 @@
+package com.catalogue.repository.jdbc;
+
+import com.catalogue.config.JdbcExecutionConfiguration;
+import com.catalogue.models.CatalogueItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Blocking counterpart of {@link com.catalogue.repository.CatalogueRepository} on top of {@link JdbcTemplate}.
+ * Every method blocks the calling thread and must only be invoked from the JDBC scheduler. Like its reactive
+ * counterpart, reads skip tombstoned items and deletes only mark items as deleted.
+ */
+@Repository
+@RequiredArgsConstructor
+@Profile(JdbcExecutionConfiguration.JDBC_PROFILE)
+public class JdbcCatalogueRepository {
+
+    private static final String SELECT_ITEMS = "SELECT ID, SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY, CREATED_ON, UPDATED_ON, DELETED, DELETED_ON FROM CATALOGUE_ITEMS";
+    private static final String INSERT_ITEM = "INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY, CREATED_ON, UPDATED_ON) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PRICE = "UPDATE CATALOGUE_ITEMS SET PRICE = ?, UPDATED_ON = ? WHERE ID = ? AND DELETED = FALSE";
+    private static final String INSERT_PRICE_CHANGE = "INSERT INTO PRICE_HISTORY(SKU_NUMBER, PRICE, CHANGED_AT) VALUES(?, ?, ?)";
+    private static final String SOFT_DELETE_BY_SKU = "UPDATE CATALOGUE_ITEMS SET DELETED = TRUE, DELETED_ON = ? WHERE SKU_NUMBER = ? AND DELETED = FALSE";
+
+    private static final RowMapper<CatalogueItem> CATALOGUE_ITEM_ROW_MAPPER = (rs, rowNum) -> CatalogueItem.builder()
+            .id(rs.getLong("ID"))
+            .sku(rs.getString("SKU_NUMBER"))
+            .name(rs.getString("ITEM_NAME"))
+            .description(rs.getString("DESCRIPTION"))
+            .category(rs.getString("CATEGORY"))
+            .price(rs.getDouble("PRICE"))
+            .inventory(rs.getInt("INVENTORY"))
+            .createdOn(toInstant(rs.getTimestamp("CREATED_ON")))
+            .updatedOn(toInstant(rs.getTimestamp("UPDATED_ON")))
+            .deleted(rs.getBoolean("DELETED"))
+            .deletedOn(toInstant(rs.getTimestamp("DELETED_ON")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The returned stream holds a pooled connection open and must be closed by the caller.
+     *
+     * @return stream of all catalogue items
+     */
+    public Stream<CatalogueItem> streamAll() {
+        return jdbcTemplate.queryForStream(SELECT_ITEMS + " WHERE DELETED = FALSE", CATALOGUE_ITEM_ROW_MAPPER);
+    }
+
+    public Optional<CatalogueItem> findById(Long id) {
+        return jdbcTemplate.query(SELECT_ITEMS + " WHERE ID = ? AND DELETED = FALSE", CATALOGUE_ITEM_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public Optional<CatalogueItem> findBySku(String sku) {
+        return jdbcTemplate.query(SELECT_ITEMS + " WHERE SKU_NUMBER = ? AND DELETED = FALSE", CATALOGUE_ITEM_ROW_MAPPER, sku).stream().findFirst();
+    }
+
+    public CatalogueItem insert(CatalogueItem catalogueItem) {
+        if (catalogueItem.getCreatedOn() == null) {
+            catalogueItem.setCreatedOn(Instant.now());
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_ITEM, new String[]{"ID"});
+            statement.setString(1, catalogueItem.getSku());
+            statement.setString(2, catalogueItem.getName());
+            statement.setString(3, catalogueItem.getDescription());
+            statement.setString(4, catalogueItem.getCategory());
+            statement.setDouble(5, catalogueItem.getPrice());
+            statement.setInt(6, catalogueItem.getInventory());
+            statement.setTimestamp(7, toTimestamp(catalogueItem.getCreatedOn()));
+            statement.setTimestamp(8, toTimestamp(catalogueItem.getUpdatedOn()));
+            return statement;
+        }, keyHolder);
+        catalogueItem.setId(keyHolder.getKeyAs(Long.class));
+        return catalogueItem;
+    }
+
+    /**
+     * @return number of items updated, 0 when the item has been deleted
+     */
+    public int updatePrice(CatalogueItem catalogueItem) {
+        return jdbcTemplate.update(UPDATE_PRICE, catalogueItem.getPrice(), toTimestamp(catalogueItem.getUpdatedOn()), catalogueItem.getId());
+    }
+
+    public void insertPriceChange(String sku, Double price, Instant changedAt) {
+        jdbcTemplate.update(INSERT_PRICE_CHANGE, sku, price, toTimestamp(changedAt));
+    }
+
+    /**
+     * @return number of items marked as deleted
+     */
+    public int softDeleteBySku(String sku, Instant deletedOn) {
+        return jdbcTemplate.update(SOFT_DELETE_BY_SKU, toTimestamp(deletedOn), sku);
+    }
+
+    /**
+     * Marks the items of all skus as deleted in one JDBC batch.
+     *
+     * @return number of items marked as deleted
+     */
+    public int softDeleteBySkus(List<String> skus, Instant deletedOn) {
+        Timestamp deletedOnTimestamp = toTimestamp(deletedOn);
+        int[][] counts = jdbcTemplate.batchUpdate(SOFT_DELETE_BY_SKU, skus, skus.size(), (statement, sku) -> {
+            statement.setTimestamp(1, deletedOnTimestamp);
+            statement.setString(2, sku);
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
@@ -1,5 +1,6 @@
 package com.catalogue.service;
 
+import com.catalogue.dto.BulkDeleteResponse;
 import com.catalogue.dto.CatalogueItemResponse;
 import com.catalogue.models.CatalogueItem;
 import reactor.core.publisher.Flux;
@@ -18,4 +19,6 @@ public interface CatalogueService {
     Mono<CatalogueItemResponse> updateCatalogueItem(String sku, CatalogueItem catalogueItem);
 
     Mono<Void> removeCatalogueItem(String sku);
+
+    Mono<BulkDeleteResponse> removeCatalogueItems(Flux<String> skus);
 }
\ No newline at end of file
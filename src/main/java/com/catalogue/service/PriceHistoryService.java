@@ -0,0 +1,16 @@
+package com.catalogue.service;
+
+import com.catalogue.dto.PriceHistoryResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface PriceHistoryService {
+
+    Mono<Void> recordPriceChange(String sku, Double price, Instant changedAt);
+
+    Mono<PriceHistoryResponse> findPriceAsOf(String sku, Instant asOf);
+
+    Flux<PriceHistoryResponse> getPriceHistory(String sku);
+}
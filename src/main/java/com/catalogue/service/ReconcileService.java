@@ -0,0 +1,20 @@
+package com.catalogue.service;
+
+import com.catalogue.dto.ReconcileEvent;
+import com.catalogue.models.CatalogueItem;
+import reactor.core.publisher.Flux;
+
+public interface ReconcileService {
+
+    /**
+     * Diffs a supplier feed against the stored catalogue. When applying, the differences are committed batch by
+     * batch: if the feed turns out to be invalid or unsorted, or a batch fails, the stream ends with that error
+     * and the batches committed before it stay applied. Every event received before the error belongs to a
+     * committed batch, so the events tell exactly what was applied.
+     *
+     * @param feed  supplier items sorted by SKU
+     * @param apply whether to also apply the differences
+     * @return INSERT, UPDATE and DELETE events in SKU order
+     */
+    Flux<ReconcileEvent> reconcile(Flux<CatalogueItem> feed, boolean apply);
+}
@@ -1,5 +1,8 @@
 package com.catalogue.service.impl;
 
+import com.catalogue.cache.CatalogueItemCache;
+import com.catalogue.config.JdbcExecutionConfiguration;
+import com.catalogue.dto.BulkDeleteResponse;
 import com.catalogue.dto.CatalogueItemResponse;
 import com.catalogue.exceptions.BadRequestException;
 import com.catalogue.exceptions.DatabaseEmptyException;
@@ -8,9 +11,13 @@ import com.catalogue.mapper.CatalogueMapper;
 import com.catalogue.models.CatalogueItem;
 import com.catalogue.repository.CatalogueRepository;
 import com.catalogue.service.CatalogueService;
-import lombok.RequiredArgsConstructor;
+import com.catalogue.service.PriceHistoryService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -19,17 +26,33 @@ import java.util.function.Function;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@Profile("!" + JdbcExecutionConfiguration.JDBC_PROFILE)
 public class CatalogueServiceImpl implements CatalogueService {
 // TODO: Implement error handling for the save operation
 
     private final CatalogueRepository catalogueRepository;
     private final CatalogueMapper catalogueMapper;
+    private final PriceHistoryService priceHistoryService;
+    private final CatalogueItemCache catalogueItemCache;
+    private final TransactionalOperator transactionalOperator;
+    private final int deleteBatchSize;
+
+    public CatalogueServiceImpl(CatalogueRepository catalogueRepository, CatalogueMapper catalogueMapper,
+                                PriceHistoryService priceHistoryService, CatalogueItemCache catalogueItemCache,
+                                ReactiveTransactionManager reactiveTransactionManager,
+                                @Value("${catalogue.delete.batch-size:1000}") int deleteBatchSize) {
+        this.catalogueRepository = catalogueRepository;
+        this.catalogueMapper = catalogueMapper;
+        this.priceHistoryService = priceHistoryService;
+        this.catalogueItemCache = catalogueItemCache;
+        this.transactionalOperator = TransactionalOperator.create(reactiveTransactionManager);
+        this.deleteBatchSize = deleteBatchSize;
+    }
 
     @Override
     public Flux<CatalogueItemResponse> getCatalogueItems() {
         log.debug("Finding CatalogueItems");
-        return this.catalogueRepository.findAll()
+        return this.catalogueRepository.findByDeletedFalse()
                 .switchIfEmpty(Mono.error(() -> {
                     log.error("Database Empty Exception has occurred");
                     return new DatabaseEmptyException("Database Empty !");
@@ -43,8 +66,13 @@ public class CatalogueServiceImpl implements CatalogueService {
             return Mono.error(new BadRequestException("ID must be a numerical value and not null"));
         }
         log.debug("Finding CatalogueItem with id: {}", id);
-        return this.catalogueRepository.findById(id)
-                .map(catalogueMapper::toCatalogueResponse)
+        return Mono.justOrEmpty(catalogueItemCache.getById(id))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long stamp = catalogueItemCache.writeStamp();
+                    return this.catalogueRepository.findByIdAndDeletedFalse(id)
+                            .map(catalogueMapper::toCatalogueResponse)
+                            .doOnNext(item -> catalogueItemCache.putLoaded(item, stamp));
+                }))
                 .switchIfEmpty(Mono.error(() -> {
                     log.warn("ID {} was not found", id);
                     return new ItemNotFoundException("Content not found");
@@ -55,13 +83,18 @@ public class CatalogueServiceImpl implements CatalogueService {
     @Override
     public Mono<CatalogueItemResponse> findBySku(String sku) {
         log.debug("Finding CatalogueItem with sku: {}", sku);
-        return this.catalogueRepository.findBySku(sku).switchIfEmpty(Mono.defer(() -> {
-            log.warn("SKU {} was not found", sku);
-            return Mono.error(new ItemNotFoundException("SKU not found"));
-        })).map(catalogueItem -> {
-            log.info("Catalogue Item {} found", sku);
-            return catalogueMapper.toCatalogueResponse(catalogueItem);
-        });
+        return Mono.justOrEmpty(catalogueItemCache.getBySku(sku))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long stamp = catalogueItemCache.writeStamp();
+                    return this.catalogueRepository.findBySkuAndDeletedFalse(sku)
+                            .map(catalogueMapper::toCatalogueResponse)
+                            .doOnNext(item -> catalogueItemCache.putLoaded(item, stamp));
+                }))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("SKU {} was not found", sku);
+                    return Mono.error(new ItemNotFoundException("SKU not found"));
+                }))
+                .doOnSuccess(item -> log.info("Catalogue Item {} found", sku));
     }
 
     @Override
@@ -70,20 +103,34 @@ public class CatalogueServiceImpl implements CatalogueService {
             catalogueItem.setCreatedOn(Instant.now());
             log.info("Catalogue Item : {} Created", catalogueItem.getId());
             return catalogueMapper.toCatalogueResponse(catalogueItem);
-        });
+        }).flatMap(item -> priceHistoryService.recordPriceChange(item.getSku(), item.getPrice(), item.getCreatedOn())
+                .thenReturn(item))
+                .as(transactionalOperator::transactional);
     }
 
     @Override
     public Mono<CatalogueItemResponse> updateCatalogueItem(String sku, CatalogueItem catalogueItem) {
         return this.catalogueRepository
-                .findBySku(sku)
+                .findBySkuAndDeletedFalse(sku)
                 .switchIfEmpty(Mono.error(new ItemNotFoundException("Content not found")))
                 .flatMap(existingItem -> {
                     log.info(" Item {} found : updating", sku);
+                    boolean priceChanged = !existingItem.getPrice().equals(catalogueItem.getPrice());
                     existingItem.setPrice(catalogueItem.getPrice());
                     existingItem.setUpdatedOn(Instant.now());
-                    return catalogueRepository.save(existingItem);
+                    // targeted update so an item tombstoned since the read is not written back
+                    Mono<Integer> updated = catalogueRepository.updatePrice(existingItem.getId(), existingItem.getPrice(), existingItem.getUpdatedOn())
+                            .filter(count -> count > 0)
+                            .switchIfEmpty(Mono.error(() -> new ItemNotFoundException("Content not found")));
+                    Mono<Void> history = priceChanged
+                            ? priceHistoryService.recordPriceChange(sku, existingItem.getPrice(), existingItem.getUpdatedOn())
+                            : Mono.empty();
+                    return updated.then(history)
+                            .then(TransactionCallbacks.afterCommit(() -> catalogueItemCache.evict(sku)))
+                            .thenReturn(existingItem);
                 })
+                // item update and history insert commit or roll back together, caches are only touched after commit
+                .as(transactionalOperator::transactional)
                 .map(buildCatalogueItemResponseFromItemFunction())
                 .onErrorResume(e -> {
                     if (e instanceof ItemNotFoundException) {
@@ -94,7 +141,8 @@ public class CatalogueServiceImpl implements CatalogueService {
     }
 
     /**
-     * This method deletes a {@link CatalogueItem} from the repository based on the sku.
+     * This method deletes a {@link CatalogueItem} based on the sku by marking it as a tombstone,
+     * the row itself is removed later by the background purge.
      *
      * @param sku The sku of the {@link CatalogueItem} to be deleted.
      * @return A Mono of type Void, which returns an empty Mono if the item was successfully deleted,
@@ -102,11 +150,34 @@ public class CatalogueServiceImpl implements CatalogueService {
      */
     @Override
     public Mono<Void> removeCatalogueItem(String sku) {
-        return this.catalogueRepository.deleteBySku(sku)
-                .doOnError(ItemNotFoundException.class, ex -> log.warn("Catalogue Item {} was not found", sku))
+        return this.catalogueRepository.softDeleteBySku(sku, Instant.now())
+                .doOnSuccess(deleted -> catalogueItemCache.evict(sku))
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Catalogue Item {} was not found", sku);
+                    return new ItemNotFoundException("SKU not found");
+                }))
                 .then();
     }
 
+    /**
+     * Marks the {@link CatalogueItem}s of all given skus as tombstones, one UPDATE per batch of skus.
+     *
+     * @param skus The skus of the {@link CatalogueItem}s to be deleted.
+     * @return number of requested skus and of items actually deleted
+     */
+    @Override
+    public Mono<BulkDeleteResponse> removeCatalogueItems(Flux<String> skus) {
+        Instant deletedOn = Instant.now();
+        return skus.buffer(deleteBatchSize)
+                .concatMap(batch -> this.catalogueRepository.softDeleteBySkuIn(batch, deletedOn)
+                        .doOnSuccess(deleted -> batch.forEach(catalogueItemCache::evict))
+                        .map(deleted -> BulkDeleteResponse.builder().requested(batch.size()).deleted(deleted).build()))
+                .reduce(new BulkDeleteResponse(0, 0), (total, batch) -> new BulkDeleteResponse(
+                        total.getRequested() + batch.getRequested(), total.getDeleted() + batch.getDeleted()))
+                .doOnSuccess(result -> log.info("Bulk delete : {} of {} Catalogue Items deleted", result.getDeleted(), result.getRequested()));
+    }
+
     /**
      * @return Function to map CatalogueItem into CatalogueItemResponse object using builder pattern
      */
@@ -0,0 +1,197 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.cache.CatalogueItemCache;
+import com.catalogue.cache.PriceHistoryCache;
+import com.catalogue.config.JdbcExecutionConfiguration;
+import com.catalogue.dto.BulkDeleteResponse;
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.exceptions.BadRequestException;
+import com.catalogue.exceptions.DatabaseEmptyException;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.mapper.CatalogueMapper;
+import com.catalogue.models.CatalogueItem;
+import com.catalogue.repository.jdbc.JdbcCatalogueRepository;
+import com.catalogue.service.CatalogueService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * {@link CatalogueService} backed by blocking JDBC, selected with the {@code jdbc} profile.
+ * Each repository call is wrapped lazily and subscribed on the JDBC scheduler, so the
+ * calling event loop only ever sees the resulting {@link Mono}/{@link Flux} signals.
+ */
+@Slf4j
+@Service
+@Profile(JdbcExecutionConfiguration.JDBC_PROFILE)
+public class JdbcCatalogueServiceImpl implements CatalogueService {
+
+    private final JdbcCatalogueRepository catalogueRepository;
+    private final CatalogueMapper catalogueMapper;
+    private final PriceHistoryCache priceHistoryCache;
+    private final CatalogueItemCache catalogueItemCache;
+    private final Scheduler jdbcScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final int deleteBatchSize;
+
+    public JdbcCatalogueServiceImpl(JdbcCatalogueRepository catalogueRepository, CatalogueMapper catalogueMapper,
+                                    PriceHistoryCache priceHistoryCache, CatalogueItemCache catalogueItemCache,
+                                    Scheduler jdbcScheduler, TransactionTemplate jdbcTransactionTemplate,
+                                    @Value("${catalogue.delete.batch-size:1000}") int deleteBatchSize) {
+        this.catalogueRepository = catalogueRepository;
+        this.catalogueMapper = catalogueMapper;
+        this.priceHistoryCache = priceHistoryCache;
+        this.catalogueItemCache = catalogueItemCache;
+        this.jdbcScheduler = jdbcScheduler;
+        this.transactionTemplate = jdbcTransactionTemplate;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Override
+    public Flux<CatalogueItemResponse> getCatalogueItems() {
+        log.debug("Finding CatalogueItems");
+        return Flux.fromStream(catalogueRepository::streamAll)
+                .subscribeOn(jdbcScheduler)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Database Empty Exception has occurred");
+                    return new DatabaseEmptyException("Database Empty !");
+                }))
+                .map(catalogueMapper::toCatalogueResponse);
+    }
+
+    @Override
+    public Mono<CatalogueItemResponse> findById(Long id) {
+        if (id == null) {
+            return Mono.error(new BadRequestException("ID must be a numerical value and not null"));
+        }
+        log.debug("Finding CatalogueItem with id: {}", id);
+        return Mono.justOrEmpty(catalogueItemCache.getById(id))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long stamp = catalogueItemCache.writeStamp();
+                    return Mono.fromCallable(() -> catalogueRepository.findById(id).orElse(null))
+                            .subscribeOn(jdbcScheduler)
+                            .map(catalogueMapper::toCatalogueResponse)
+                            .doOnNext(item -> catalogueItemCache.putLoaded(item, stamp));
+                }))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("ID {} was not found", id);
+                    return new ItemNotFoundException("Content not found");
+                }))
+                .doOnSuccess(item -> log.info("Catalogue Item {} found", id));
+    }
+
+    @Override
+    public Mono<CatalogueItemResponse> findBySku(String sku) {
+        log.debug("Finding CatalogueItem with sku: {}", sku);
+        return Mono.justOrEmpty(catalogueItemCache.getBySku(sku))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long stamp = catalogueItemCache.writeStamp();
+                    return Mono.fromCallable(() -> catalogueRepository.findBySku(sku).orElse(null))
+                            .subscribeOn(jdbcScheduler)
+                            .map(catalogueMapper::toCatalogueResponse)
+                            .doOnNext(item -> catalogueItemCache.putLoaded(item, stamp));
+                }))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("SKU {} was not found", sku);
+                    return Mono.error(new ItemNotFoundException("SKU not found"));
+                }))
+                .doOnSuccess(item -> log.info("Catalogue Item {} found", sku));
+    }
+
+    @Override
+    public Mono<CatalogueItemResponse> createCatalogueItem(CatalogueItem catalogueItem) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    CatalogueItem item = catalogueRepository.insert(catalogueItem);
+                    recordPriceChange(item.getSku(), item.getPrice(), item.getCreatedOn());
+                    return item;
+                }))
+                .subscribeOn(jdbcScheduler)
+                .map(item -> {
+                    log.info("Catalogue Item : {} Created", item.getId());
+                    return catalogueMapper.toCatalogueResponse(item);
+                });
+    }
+
+    @Override
+    public Mono<CatalogueItemResponse> updateCatalogueItem(String sku, CatalogueItem catalogueItem) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> catalogueRepository.findBySku(sku)
+                        .flatMap(existingItem -> updatePrice(existingItem, catalogueItem.getPrice())))
+                        .orElseThrow(() -> {
+                            log.info(" Item {} not found", sku);
+                            return new ItemNotFoundException("Content not found");
+                        }))
+                .subscribeOn(jdbcScheduler)
+                // the transaction has committed by now
+                .doOnNext(item -> catalogueItemCache.evict(sku))
+                .map(catalogueMapper::toCatalogueResponse);
+    }
+
+    /**
+     * @return the updated item, empty when it was tombstoned since it was read
+     */
+    private Optional<CatalogueItem> updatePrice(CatalogueItem existingItem, Double price) {
+        log.info(" Item {} found : updating", existingItem.getSku());
+        boolean priceChanged = !existingItem.getPrice().equals(price);
+        existingItem.setPrice(price);
+        existingItem.setUpdatedOn(Instant.now());
+        if (catalogueRepository.updatePrice(existingItem) == 0) {
+            return Optional.empty();
+        }
+        if (priceChanged) {
+            recordPriceChange(existingItem.getSku(), existingItem.getPrice(), existingItem.getUpdatedOn());
+        }
+        return Optional.of(existingItem);
+    }
+
+    /**
+     * Blocking counterpart of {@link PriceHistoryServiceImpl#recordPriceChange(String, Double, Instant)}, must run
+     * inside a transaction of the {@link TransactionTemplate}.
+     */
+    private void recordPriceChange(String sku, Double price, Instant changedAt) {
+        Instant changedAtMillis = changedAt.truncatedTo(ChronoUnit.MILLIS);
+        catalogueRepository.insertPriceChange(sku, price, changedAtMillis);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                priceHistoryCache.append(sku, changedAtMillis.toEpochMilli(), price);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> removeCatalogueItem(String sku) {
+        return Mono.fromCallable(() -> catalogueRepository.softDeleteBySku(sku, Instant.now()))
+                .subscribeOn(jdbcScheduler)
+                .doOnSuccess(deleted -> catalogueItemCache.evict(sku))
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Catalogue Item {} was not found", sku);
+                    return new ItemNotFoundException("SKU not found");
+                }))
+                .then();
+    }
+
+    @Override
+    public Mono<BulkDeleteResponse> removeCatalogueItems(Flux<String> skus) {
+        Instant deletedOn = Instant.now();
+        return skus.buffer(deleteBatchSize)
+                .concatMap(batch -> Mono.fromCallable(() -> catalogueRepository.softDeleteBySkus(batch, deletedOn))
+                        .subscribeOn(jdbcScheduler)
+                        .doOnSuccess(deleted -> batch.forEach(catalogueItemCache::evict))
+                        .map(deleted -> BulkDeleteResponse.builder().requested(batch.size()).deleted(deleted).build()))
+                .reduce(new BulkDeleteResponse(0, 0), (total, batch) -> new BulkDeleteResponse(
+                        total.getRequested() + batch.getRequested(), total.getDeleted() + batch.getDeleted()))
+                .doOnSuccess(result -> log.info("Bulk delete : {} of {} Catalogue Items deleted", result.getDeleted(), result.getRequested()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.cache.PriceHistoryCache;
+import com.catalogue.cache.PriceTimeline;
+import com.catalogue.dto.PriceHistoryResponse;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.models.PriceHistory;
+import com.catalogue.repository.PriceHistoryRepository;
+import com.catalogue.service.PriceHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceHistoryServiceImpl implements PriceHistoryService {
+
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final PriceHistoryCache priceHistoryCache;
+
+    /**
+     * Inserts one PRICE_HISTORY row and appends the change to the cached timeline of the SKU, if any, once the
+     * surrounding transaction has committed. Change times are truncated to millis so that database and cache
+     * agree on as-of boundaries.
+     */
+    @Override
+    public Mono<Void> recordPriceChange(String sku, Double price, Instant changedAt) {
+        Instant changedAtMillis = changedAt.truncatedTo(ChronoUnit.MILLIS);
+        return priceHistoryRepository.save(PriceHistory.builder().sku(sku).price(price).changedAt(changedAtMillis).build())
+                .then(TransactionCallbacks.afterCommit(() -> priceHistoryCache.append(sku, changedAtMillis.toEpochMilli(), price)));
+    }
+
+    /**
+     * Answered from the cached timeline when it reaches back far enough, otherwise by the
+     * (SKU_NUMBER, CHANGED_AT) index.
+     *
+     * @param sku
+     * @param asOf
+     * @return price of the SKU effective at the given time
+     */
+    @Override
+    public Mono<PriceHistoryResponse> findPriceAsOf(String sku, Instant asOf) {
+        log.debug("Finding price of sku: {} as of {}", sku, asOf);
+        long asOfMillis = asOf.toEpochMilli();
+        return Mono.justOrEmpty(priceHistoryCache.get(sku))
+                .switchIfEmpty(Mono.defer(() -> loadRecentHistory(sku)))
+                .filter(timeline -> timeline.covers(asOfMillis))
+                .flatMap(timeline -> {
+                    int index = timeline.indexAsOf(asOfMillis);
+                    return index < 0 ? Mono.empty() : Mono.just(PriceHistoryResponse.builder()
+                            .sku(sku)
+                            .price(timeline.price(index))
+                            .changedAt(Instant.ofEpochMilli(timeline.changedAt(index)))
+                            .build());
+                })
+                .switchIfEmpty(Mono.defer(() -> priceHistoryRepository
+                        .findFirstBySkuAndChangedAtLessThanEqualOrderByChangedAtDesc(sku, asOf)
+                        .map(this::toPriceHistoryResponse)))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("No price of SKU {} as of {}", sku, asOf);
+                    return new ItemNotFoundException("Price not found");
+                }));
+    }
+
+    @Override
+    public Flux<PriceHistoryResponse> getPriceHistory(String sku) {
+        log.debug("Finding price history of sku: {}", sku);
+        return priceHistoryRepository.findBySkuOrderByChangedAtAsc(sku)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("SKU {} has no price history", sku);
+                    return new ItemNotFoundException("SKU not found");
+                }))
+                .map(this::toPriceHistoryResponse);
+    }
+
+    private Mono<PriceTimeline> loadRecentHistory(String sku) {
+        long writeStamp = priceHistoryCache.writeStamp(sku);
+        return priceHistoryRepository.findBySkuOrderByChangedAtDesc(sku, PageRequest.of(0, priceHistoryCache.loadSize()))
+                .collectList()
+                .filter(changes -> !changes.isEmpty())
+                .map(changes -> priceHistoryCache.put(sku, changes, writeStamp));
+    }
+
+    private PriceHistoryResponse toPriceHistoryResponse(PriceHistory priceHistory) {
+        return PriceHistoryResponse.builder()
+                .sku(priceHistory.getSku())
+                .price(priceHistory.getPrice())
+                .changedAt(priceHistory.getChangedAt())
+                .build();
+    }
+}
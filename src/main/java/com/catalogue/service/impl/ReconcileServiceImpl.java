@@ -0,0 +1,217 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.cache.CatalogueItemCache;
+import com.catalogue.dto.ReconcileEvent;
+import com.catalogue.exceptions.BadRequestException;
+import com.catalogue.mapper.CatalogueMapper;
+import com.catalogue.models.CatalogueItem;
+import com.catalogue.repository.CatalogueRepository;
+import com.catalogue.service.PriceHistoryService;
+import com.catalogue.service.ReconcileService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Merge-joins a supplier feed sorted by SKU against the stored catalogue read in SKU order. Both sides are
+ * consumed as streams with bounded prefetch, so memory does not grow with the size of the catalogue.
+ */
+@Slf4j
+@Service
+public class ReconcileServiceImpl implements ReconcileService {
+
+    private final CatalogueRepository catalogueRepository;
+    private final CatalogueMapper catalogueMapper;
+    private final PriceHistoryService priceHistoryService;
+    private final CatalogueItemCache catalogueItemCache;
+    private final TransactionalOperator transactionalOperator;
+    private final Validator validator;
+    private final int applyBatchSize;
+
+    public ReconcileServiceImpl(CatalogueRepository catalogueRepository, CatalogueMapper catalogueMapper,
+                                PriceHistoryService priceHistoryService, CatalogueItemCache catalogueItemCache,
+                                ReactiveTransactionManager reactiveTransactionManager, Validator validator,
+                                @Value("${catalogue.reconcile.apply-batch-size:500}") int applyBatchSize) {
+        this.catalogueRepository = catalogueRepository;
+        this.catalogueMapper = catalogueMapper;
+        this.priceHistoryService = priceHistoryService;
+        this.catalogueItemCache = catalogueItemCache;
+        this.transactionalOperator = TransactionalOperator.create(reactiveTransactionManager);
+        this.validator = validator;
+        this.applyBatchSize = applyBatchSize;
+    }
+
+    /**
+     * @param feed  supplier items in strictly ascending SKU order, each valid as a {@link CatalogueItem}
+     * @param apply whether to also apply the differences, one transaction per batch of events
+     * @return INSERT, UPDATE and DELETE events in SKU order, emitted after their batch is committed when applying,
+     * without the updates of items deleted in the meantime
+     */
+    @Override
+    public Flux<ReconcileEvent> reconcile(Flux<CatalogueItem> feed, boolean apply) {
+        Flux<Diff> diffs = Flux.mergeComparing(Comparator.comparing(MergeEntry::sku),
+                        requireSortedBySku(feed, BadRequestException::new).handle(this::requireValid).map(item -> new MergeEntry(item, true)),
+                        // the merge silently mismatches if the database orders SKUs differently than String::compareTo
+                        requireSortedBySku(catalogueRepository.findByDeletedFalseOrderBySkuAsc(), IllegalStateException::new)
+                                .map(item -> new MergeEntry(item, false)))
+                .bufferUntilChanged(MergeEntry::sku)
+                .mapNotNull(this::diff);
+
+        if (apply) {
+            diffs = diffs.buffer(applyBatchSize)
+                    .concatMap(batch -> applyBatch(batch).flatMapIterable(Function.identity()));
+        }
+        return diffs.map(Diff::event);
+    }
+
+    private void requireValid(CatalogueItem item, SynchronousSink<CatalogueItem> sink) {
+        Set<ConstraintViolation<CatalogueItem>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            sink.next(item);
+        } else {
+            sink.error(new BadRequestException("Invalid feed item " + item.getSku() + " : " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "))));
+        }
+    }
+
+    /**
+     * @param items items expected in strictly ascending SKU order
+     * @param error builds the error the stream fails with on the first item out of order
+     */
+    private static Flux<CatalogueItem> requireSortedBySku(Flux<CatalogueItem> items, Function<String, RuntimeException> error) {
+        return Flux.defer(() -> {
+            String[] previousSku = new String[1];
+            return items.handle((item, sink) -> {
+                if (item.getSku() == null) {
+                    sink.error(error.apply("Item without SKU"));
+                } else if (previousSku[0] != null && item.getSku().compareTo(previousSku[0]) <= 0) {
+                    sink.error(error.apply("Items must be sorted by unique SKU : " + item.getSku() + " after " + previousSku[0]));
+                } else {
+                    previousSku[0] = item.getSku();
+                    sink.next(item);
+                }
+            });
+        });
+    }
+
+    /**
+     * @param group feed and stored entries sharing one SKU
+     * @return difference for the SKU, or null if the stored item already matches the feed
+     */
+    private Diff diff(List<MergeEntry> group) {
+        CatalogueItem feedItem = group.stream().filter(MergeEntry::fromFeed).map(MergeEntry::item).findFirst().orElse(null);
+        CatalogueItem storedItem = group.stream().filter(entry -> !entry.fromFeed()).map(MergeEntry::item).findFirst().orElse(null);
+        if (storedItem == null) {
+            return toDiff(ReconcileEvent.Type.INSERT, feedItem, null);
+        }
+        if (feedItem == null) {
+            return toDiff(ReconcileEvent.Type.DELETE, null, storedItem);
+        }
+        return hasSameContent(feedItem, storedItem) ? null : toDiff(ReconcileEvent.Type.UPDATE, feedItem, storedItem);
+    }
+
+    private static boolean hasSameContent(CatalogueItem feedItem, CatalogueItem storedItem) {
+        return Objects.equals(feedItem.getName(), storedItem.getName())
+                && Objects.equals(feedItem.getDescription(), storedItem.getDescription())
+                && Objects.equals(feedItem.getCategory(), storedItem.getCategory())
+                && Objects.equals(feedItem.getPrice(), storedItem.getPrice())
+                && Objects.equals(feedItem.getInventory(), storedItem.getInventory());
+    }
+
+    /**
+     * Applies the batch in one transaction. Price changes reach the price history cache through an after-commit
+     * callback and the item cache is evicted once the transaction has completed, so a rolled back batch leaves
+     * both caches untouched.
+     *
+     * @return differences of the batch that were applied, updates of items deleted since they were read are not
+     */
+    private Mono<List<Diff>> applyBatch(List<Diff> batch) {
+        Instant now = Instant.now();
+        Flux<Void> inserts = Flux.fromIterable(batch)
+                .filter(diff -> diff.type() == ReconcileEvent.Type.INSERT)
+                .concatMap(diff -> catalogueRepository.save(CatalogueItem.builder()
+                                .sku(diff.feed().getSku())
+                                .name(diff.feed().getName())
+                                .description(diff.feed().getDescription())
+                                .category(diff.feed().getCategory())
+                                .price(diff.feed().getPrice())
+                                .inventory(diff.feed().getInventory())
+                                .build())
+                        .then(priceHistoryService.recordPriceChange(diff.sku(), diff.feed().getPrice(), now)));
+        // targeted update so an item tombstoned or purged since it was read is neither resurrected nor re-inserted
+        Flux<Diff> notApplied = Flux.fromIterable(batch)
+                .filter(diff -> diff.type() == ReconcileEvent.Type.UPDATE)
+                .concatMap(diff -> {
+                    CatalogueItem feed = diff.feed();
+                    boolean priceChanged = !Objects.equals(diff.stored().getPrice(), feed.getPrice());
+                    return catalogueRepository.updateContent(diff.stored().getId(), feed.getName(), feed.getDescription(),
+                                    feed.getCategory(), feed.getPrice(), feed.getInventory(), now)
+                            .flatMap(count -> {
+                                if (count == 0) {
+                                    log.info("Reconcile : {} was deleted concurrently, update not applied", diff.sku());
+                                    return Mono.just(diff);
+                                }
+                                return priceChanged
+                                        ? priceHistoryService.recordPriceChange(diff.sku(), feed.getPrice(), now).then(Mono.empty())
+                                        : Mono.empty();
+                            });
+                });
+        List<String> deletedSkus = batch.stream()
+                .filter(diff -> diff.type() == ReconcileEvent.Type.DELETE)
+                .map(Diff::sku)
+                .toList();
+        Mono<Integer> deletes = deletedSkus.isEmpty() ? Mono.empty() : catalogueRepository.softDeleteBySkuIn(deletedSkus, now);
+
+        return inserts.thenMany(notApplied)
+                .collectList()
+                .flatMap(skipped -> deletes.thenReturn(skipped))
+                .as(transactionalOperator::transactional)
+                .map(skipped -> {
+                    batch.forEach(diff -> catalogueItemCache.evict(diff.sku()));
+                    log.info("Reconcile : applied batch of {} changes", batch.size() - skipped.size());
+                    return batch.stream().filter(diff -> !skipped.contains(diff)).toList();
+                });
+    }
+
+    /**
+     * The event is built up front so that it still shows the stored item as it was before the change is applied.
+     */
+    private Diff toDiff(ReconcileEvent.Type type, CatalogueItem feedItem, CatalogueItem storedItem) {
+        ReconcileEvent event = ReconcileEvent.builder()
+                .type(type)
+                .sku(feedItem != null ? feedItem.getSku() : storedItem.getSku())
+                .current(storedItem == null ? null : catalogueMapper.toCatalogueResponse(storedItem))
+                .target(feedItem)
+                .build();
+        return new Diff(type, feedItem, storedItem, event);
+    }
+
+    private record MergeEntry(CatalogueItem item, boolean fromFeed) {
+        String sku() {
+            return item.getSku();
+        }
+    }
+
+    private record Diff(ReconcileEvent.Type type, CatalogueItem feed, CatalogueItem stored, ReconcileEvent event) {
+        String sku() {
+            return event.getSku();
+        }
+    }
+}
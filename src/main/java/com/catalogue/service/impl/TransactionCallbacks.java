@@ -0,0 +1,33 @@
+package com.catalogue.service.impl;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defers side effects such as cache updates until the surrounding reactive transaction has committed,
+ * so that readers never see a change that is later rolled back.
+ */
+@UtilityClass
+class TransactionCallbacks {
+
+    /**
+     * @param action run once the current transaction has committed, or right away when there is no transaction
+     * @return Mono completing once the action is registered or has run
+     */
+    Mono<Void> afterCommit(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(action);
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .switchIfEmpty(Mono.fromRunnable(action))
+                .then();
+    }
+}
@@ -0,0 +1,101 @@
+package com.catalogue.warmup;
+
+import com.catalogue.cache.HotSkuTracker;
+import com.catalogue.service.CatalogueService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the hot SKUs persisted by the previous run into the lookup caches once the application is ready,
+ * so that the first minutes of traffic after a deploy do not all miss. Readiness is held back by the
+ * {@link WarmUpHealthIndicator} until warm-up has finished or timed out. The warm-up lookups are not counted
+ * by the {@link HotSkuTracker}, otherwise the previous hot list would reinforce itself on every restart.
+ */
+@Slf4j
+@Component
+public class CatalogueWarmUp {
+
+    public enum State {PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED}
+
+    private final CatalogueService catalogueService;
+    private final HotSkuTracker hotSkuTracker;
+    private final Duration timeout;
+    private final int concurrency;
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private volatile State state = State.PENDING;
+    private volatile int total;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public CatalogueWarmUp(CatalogueService catalogueService, HotSkuTracker hotSkuTracker,
+                           @Value("${catalogue.warm-up.timeout:PT30S}") Duration timeout,
+                           @Value("${catalogue.warm-up.concurrency:8}") int concurrency) {
+        this.catalogueService = catalogueService;
+        this.hotSkuTracker = hotSkuTracker;
+        this.timeout = timeout;
+        this.concurrency = concurrency;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<String> hotSkus = hotSkuTracker.loadPersisted();
+        total = hotSkus.size();
+        startedAt = Instant.now();
+        state = State.RUNNING;
+        hotSkuTracker.setRecording(false);
+        log.info("Warming up lookup caches with {} hot SKUs", total);
+
+        Flux.fromIterable(hotSkus)
+                .flatMap(sku -> catalogueService.findBySku(sku)
+                        .onErrorResume(e -> {
+                            log.debug("Skipping hot SKU {} during warm-up: {}", sku, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .doOnNext(item -> loaded.incrementAndGet())
+                .then()
+                .timeout(timeout)
+                .subscribe(null,
+                        error -> finish(error instanceof TimeoutException ? State.TIMED_OUT : State.FAILED),
+                        () -> finish(State.COMPLETED));
+    }
+
+    /**
+     * @return true once warm-up no longer holds back readiness
+     */
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.TIMED_OUT || state == State.FAILED;
+    }
+
+    public Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("state", state);
+        progress.put("loaded", loaded.get());
+        progress.put("total", total);
+        if (startedAt != null) {
+            progress.put("elapsed", Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toString());
+        }
+        return progress;
+    }
+
+    private void finish(State finalState) {
+        hotSkuTracker.setRecording(true);
+        finishedAt = Instant.now();
+        state = finalState;
+        log.info("Warm-up {} : {} of {} hot SKUs loaded in {}", finalState, loaded.get(), total,
+                Duration.between(startedAt, finishedAt));
+    }
+}
@@ -0,0 +1,23 @@
+package com.catalogue.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reported as {@code warmUp} and part of the readiness group: DOWN until warm-up has finished or timed out,
+ * with the warm-up progress as details.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final CatalogueWarmUp catalogueWarmUp;
+
+    @Override
+    public Health health() {
+        Health.Builder health = catalogueWarmUp.isFinished() ? Health.up() : Health.down();
+        return health.withDetails(catalogueWarmUp.progress()).build();
+    }
+}
@@ -997,4 +997,5 @@ INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE,
 INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY) VALUES('TLG-SKU-0997','ITEM 0997','ITEM DESC 0997','Books','997','997');
 INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY) VALUES('TLG-SKU-0998','ITEM 0998','ITEM DESC 0998','Books','998','998');
 INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY) VALUES('TLG-SKU-0999','ITEM 0999','ITEM DESC 0999','Books','999','999');
-INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY) VALUES('TLG-SKU-1000','ITEM 1000','ITEM DESC 1000','Books','1000','1000');
\ No newline at end of file
+INSERT INTO CATALOGUE_ITEMS(SKU_NUMBER, ITEM_NAME, DESCRIPTION, CATEGORY, PRICE, INVENTORY) VALUES('TLG-SKU-1000','ITEM 1000','ITEM DESC 1000','Books','1000','1000');
+INSERT INTO PRICE_HISTORY(SKU_NUMBER, PRICE, CHANGED_AT) SELECT SKU_NUMBER, PRICE, CREATED_ON FROM CATALOGUE_ITEMS;
\ No newline at end of file
@@ -9,8 +9,20 @@ CREATE TABLE CATALOGUE_ITEMS (
     PRICE DOUBLE NOT NULL,
     INVENTORY INT NOT NULL,
     CREATED_ON TIMESTAMP NOT NULL DEFAULT NOW(),
-    UPDATED_ON TIMESTAMP
+    UPDATED_ON TIMESTAMP,
+    DELETED BOOLEAN NOT NULL DEFAULT FALSE,
+    DELETED_ON TIMESTAMP
 );
+CREATE INDEX IDX_CATALOGUE_ITEMS_SKU_DELETED ON CATALOGUE_ITEMS (SKU_NUMBER, DELETED);
+CREATE INDEX IDX_CATALOGUE_ITEMS_DELETED ON CATALOGUE_ITEMS (DELETED, ID);
+DROP TABLE IF EXISTS PRICE_HISTORY;
+CREATE TABLE PRICE_HISTORY (
+    ID BIGSERIAL,
+    SKU_NUMBER VARCHAR(16) NOT NULL,
+    PRICE DOUBLE NOT NULL,
+    CHANGED_AT TIMESTAMP NOT NULL
+);
+CREATE INDEX IDX_PRICE_HISTORY_SKU_CHANGED_AT ON PRICE_HISTORY (SKU_NUMBER, CHANGED_AT);
 --CREATE TABLE CATALOGUE_ITEMS (
 --    ID BIGSERIAL,
 --    SKU_NUMBER VARCHAR(16) NOT NULL,
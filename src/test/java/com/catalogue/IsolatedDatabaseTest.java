@@ -0,0 +1,28 @@
+package com.catalogue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Application test on a database of its own, configured by {@code application-isolated-db.yml}. Test classes
+ * using it share one context, so they must not depend on changes made by each other. Classes activating more
+ * profiles have to repeat {@link #PROFILE} in their own {@link ActiveProfiles}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles(IsolatedDatabaseTest.PROFILE)
+public @interface IsolatedDatabaseTest {
+
+    String PROFILE = "isolated-db";
+}
@@ -0,0 +1,63 @@
+package com.catalogue.benchmark;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+@Slf4j
+@UtilityClass
+public class BenchmarkSupport {
+
+    /**
+     * Fire {@code requests} calls with at most {@code concurrency} in flight, after an untimed warm-up round,
+     * and report throughput and latency percentiles.
+     *
+     * @param name        label logged with the result
+     * @param requests    number of timed calls
+     * @param concurrency number of calls in flight
+     * @param call        produces the call for the given request index
+     * @return BenchmarkResult
+     */
+    public static BenchmarkResult run(String name, int requests, int concurrency, IntFunction<Mono<?>> call) {
+        execute(requests / 10, concurrency, call, new long[requests / 10]);
+
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        execute(requests, concurrency, call, latencies);
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        BenchmarkResult result = new BenchmarkResult(name, requests, requests * 1_000_000_000.0 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+        log.info("{}", result);
+        return result;
+    }
+
+    private static void execute(int requests, int concurrency, IntFunction<Mono<?>> call, long[] latencies) {
+        AtomicInteger slot = new AtomicInteger();
+        Flux.range(0, requests)
+                .flatMap(index -> Mono.defer(() -> {
+                    long begin = System.nanoTime();
+                    return call.apply(index).doOnTerminate(() -> latencies[slot.getAndIncrement()] = System.nanoTime() - begin);
+                }), concurrency)
+                .blockLast();
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public record BenchmarkResult(String name, int requests, double throughput, double p50Millis, double p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("%-24s requests=%d throughput=%.0f req/s p50=%.2f ms p99=%.2f ms",
+                    name, requests, throughput, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.catalogue.benchmark;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.controller.CatalogueRSocketRoutes;
+import com.catalogue.dto.CatalogueItemResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * findBySku over HTTP/1.1 JSON against RSocket CBOR on a single multiplexed TCP connection.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ProtocolBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.catalogue=WARN", "logging.level.com.catalogue.benchmark=INFO"}
+)
+class ProtocolBenchmarkTest {
+
+    private static final int REQUESTS = 50_000;
+    private static final int CONCURRENCY = 128;
+
+    @LocalServerPort
+    private int httpPort;
+    @LocalRSocketServerPort
+    private int rsocketPort;
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @Test
+    void benchmarkHttpAgainstRSocket() {
+        WebClient webClient = WebClient.create("http://localhost:" + httpPort + "/api/v1");
+        BenchmarkSupport.run("http/json findBySku", REQUESTS, CONCURRENCY, index -> webClient.get()
+                .uri("/sku/{sku}", sku(index))
+                .retrieve()
+                .bodyToMono(CatalogueItemResponse.class));
+
+        RSocketRequester requester = requesterBuilder.dataMimeType(MediaType.APPLICATION_CBOR).tcp("localhost", rsocketPort);
+        try {
+            BenchmarkSupport.run("rsocket/cbor findBySku", REQUESTS, CONCURRENCY, index -> requester
+                    .route(CatalogueRSocketRoutes.GET_ITEM_BY_SKU, sku(index))
+                    .retrieveMono(CatalogueItemResponse.class));
+        } finally {
+            requester.dispose();
+        }
+    }
+
+    private static String sku(int index) {
+        return String.format("TLG-SKU-%04d", index % 1000 + 1);
+    }
+}
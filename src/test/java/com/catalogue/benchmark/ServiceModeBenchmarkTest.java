@@ -0,0 +1,65 @@
+package com.catalogue.benchmark;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.config.JdbcExecutionConfiguration;
+import com.catalogue.dto.CatalogueItemResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Side by side throughput/latency of the R2DBC and the JDBC service on H2. The JDBC results are labelled
+ * with the scheduler the calls were dispatched on: virtual threads need Java 21, on Java 17 the JDBC service
+ * falls back to a bounded elastic scheduler.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ServiceModeBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ServiceModeBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int CONCURRENCY = 64;
+
+    @Test
+    void benchmarkR2dbcAgainstJdbc() {
+        benchmark("r2dbc");
+        benchmark(JdbcExecutionConfiguration.JDBC_PROFILE);
+    }
+
+    private void benchmark(String profile) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReactiveCatalogueCrudApplication.class)
+                .profiles(profile)
+                .properties("server.port=0", "catalogue.cache.max-items=0",
+                        "logging.level.com.catalogue=WARN", "logging.level.com.catalogue.benchmark=INFO")
+                .run()) {
+            int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+            WebClient webClient = WebClient.create("http://localhost:" + port + "/api/v1");
+            String label = context.getBeanProvider(Scheduler.class).stream()
+                    .map(scheduler -> profile + "/" + schedulerName(scheduler))
+                    .findFirst()
+                    .orElse(profile);
+
+            BenchmarkSupport.run(label + " findBySku", REQUESTS, CONCURRENCY, index -> webClient.get()
+                    .uri("/sku/{sku}", String.format("TLG-SKU-%04d", index % 1000 + 1))
+                    .retrieve()
+                    .bodyToMono(CatalogueItemResponse.class));
+            BenchmarkSupport.run(label + " stream", REQUESTS / 100, CONCURRENCY / 8, index -> webClient.get()
+                    .uri("/stream")
+                    .retrieve()
+                    .bodyToFlux(CatalogueItemResponse.class)
+                    .then());
+        }
+    }
+
+    /**
+     * @return scheduler factory name, e.g. {@code newBoundedElastic} or {@code fromExecutorService}
+     */
+    private static String schedulerName(Scheduler scheduler) {
+        String description = scheduler.toString();
+        int parameters = description.indexOf('(');
+        return parameters < 0 ? description : description.substring(0, parameters);
+    }
+}
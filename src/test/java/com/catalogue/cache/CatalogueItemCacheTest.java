@@ -0,0 +1,62 @@
+package com.catalogue.cache;
+
+import com.catalogue.dto.CatalogueItemResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogueItemCacheTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testLoadedItemIsServedById() {
+        CatalogueItemCache cache = cache(Duration.ofMinutes(5));
+        cache.putLoaded(item(10.0), cache.writeStamp());
+
+        assertThat(cache.getById(1L)).hasValueSatisfying(item -> assertThat(item.getPrice()).isEqualTo(10.0));
+    }
+
+    @Test
+    void testLoadDoesNotOverwriteCachedItem() {
+        CatalogueItemCache cache = cache(Duration.ofMinutes(5));
+        cache.putLoaded(item(10.0), cache.writeStamp());
+        cache.putLoaded(item(9.0), cache.writeStamp());
+
+        assertThat(cache.getBySku("TLG-SKU-0001")).hasValueSatisfying(item -> assertThat(item.getPrice()).isEqualTo(10.0));
+    }
+
+    @Test
+    void testLoadRacingWithWriteIsNotCached() {
+        CatalogueItemCache cache = cache(Duration.ofMinutes(5));
+        long stamp = cache.writeStamp();
+        // the item is updated and evicted while the lookup is still reading the old row
+        cache.evict("TLG-SKU-0001");
+        cache.putLoaded(item(10.0), stamp);
+
+        assertThat(cache.getBySku("TLG-SKU-0001")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testItemsExpire() {
+        CatalogueItemCache cache = cache(Duration.ZERO);
+        cache.putLoaded(item(10.0), cache.writeStamp());
+
+        assertThat(cache.getBySku("TLG-SKU-0001")).isEmpty();
+        assertThat(cache.getById(1L)).isEmpty();
+    }
+
+    private CatalogueItemCache cache(Duration ttl) {
+        return new CatalogueItemCache(new HotSkuTracker(10, tempDir.resolve("hot-skus.txt").toString()), 10, ttl);
+    }
+
+    private static CatalogueItemResponse item(double price) {
+        return CatalogueItemResponse.builder().id(1L).sku("TLG-SKU-0001").price(price).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.catalogue.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotSkuTrackerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testHotSkusAreRankedByFrequency() {
+        HotSkuTracker hotSkuTracker = new HotSkuTracker(2, tempDir.resolve("hot-skus.txt").toString());
+        record(hotSkuTracker, "TLG-SKU-0001", 5);
+        record(hotSkuTracker, "TLG-SKU-0002", 20);
+        record(hotSkuTracker, "TLG-SKU-0003", 10);
+
+        assertThat(hotSkuTracker.hotSkus()).containsExactly("TLG-SKU-0002", "TLG-SKU-0003");
+    }
+
+    @Test
+    void testFrequentSkuDisplacesColdCandidateOnceFull() {
+        HotSkuTracker hotSkuTracker = new HotSkuTracker(1, tempDir.resolve("hot-skus.txt").toString());
+        record(hotSkuTracker, "TLG-SKU-0001", 3);
+        record(hotSkuTracker, "TLG-SKU-0002", 1);
+        // both candidate slots are taken, a SKU first seen later still makes it once it is hotter
+        record(hotSkuTracker, "TLG-SKU-0003", 10);
+
+        assertThat(hotSkuTracker.hotSkus()).containsExactly("TLG-SKU-0003");
+    }
+
+    @Test
+    void testLookupsAreNotCountedWhilePaused() {
+        HotSkuTracker hotSkuTracker = new HotSkuTracker(2, tempDir.resolve("hot-skus.txt").toString());
+        hotSkuTracker.setRecording(false);
+        record(hotSkuTracker, "TLG-SKU-0001", 5);
+        hotSkuTracker.setRecording(true);
+        record(hotSkuTracker, "TLG-SKU-0002", 1);
+
+        assertThat(hotSkuTracker.hotSkus()).containsExactly("TLG-SKU-0002");
+    }
+
+    @Test
+    void testPersistedHotSkusAreLoadedByNextRun() {
+        String hotSkusFile = tempDir.resolve("hot-skus.txt").toString();
+        HotSkuTracker hotSkuTracker = new HotSkuTracker(10, hotSkusFile);
+        record(hotSkuTracker, "TLG-SKU-0001", 1);
+        record(hotSkuTracker, "TLG-SKU-0002", 3);
+        hotSkuTracker.persist();
+
+        assertThat(new HotSkuTracker(10, hotSkusFile).loadPersisted()).containsExactly("TLG-SKU-0002", "TLG-SKU-0001");
+    }
+
+    @Test
+    void testNoHotSkusWithoutFile() {
+        assertThat(new HotSkuTracker(10, tempDir.resolve("missing.txt").toString()).loadPersisted()).isEmpty();
+    }
+
+    private static void record(HotSkuTracker hotSkuTracker, String sku, int times) {
+        IntStream.range(0, times).forEach(i -> hotSkuTracker.record(sku));
+    }
+}
@@ -0,0 +1,92 @@
+package com.catalogue.cache;
+
+import com.catalogue.models.PriceHistory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceHistoryCacheTest {
+
+    private final PriceHistoryCache priceHistoryCache = new PriceHistoryCache(2, 3);
+
+    @Test
+    void testCompleteHistoryAnswersAnyAsOf() {
+        PriceTimeline timeline = load("TLG-SKU-0001", change(300, 3.0), change(200, 2.0), change(100, 1.0));
+
+        assertThat(timeline.covers(50)).isTrue();
+        assertThat(timeline.indexAsOf(50)).isEqualTo(-1);
+        assertThat(timeline.price(timeline.indexAsOf(100))).isEqualTo(1.0);
+        assertThat(timeline.price(timeline.indexAsOf(250))).isEqualTo(2.0);
+        assertThat(timeline.price(timeline.indexAsOf(1000))).isEqualTo(3.0);
+    }
+
+    @Test
+    void testTruncatedHistoryOnlyCoversRecentEntries() {
+        PriceTimeline timeline = load("TLG-SKU-0001",
+                change(400, 4.0), change(300, 3.0), change(200, 2.0), change(100, 1.0));
+
+        assertThat(timeline.size()).isEqualTo(3);
+        assertThat(timeline.covers(150)).isFalse();
+        assertThat(timeline.covers(200)).isTrue();
+    }
+
+    @Test
+    void testAppendKeepsMostRecentEntries() {
+        load("TLG-SKU-0001", change(200, 2.0), change(100, 1.0));
+        priceHistoryCache.append("TLG-SKU-0001", 300, 3.0);
+        priceHistoryCache.append("TLG-SKU-0001", 400, 4.0);
+
+        PriceTimeline timeline = priceHistoryCache.get("TLG-SKU-0001").orElseThrow();
+        assertThat(timeline.size()).isEqualTo(3);
+        assertThat(timeline.covers(100)).isFalse();
+        assertThat(timeline.price(timeline.indexAsOf(350))).isEqualTo(3.0);
+        assertThat(timeline.price(timeline.indexAsOf(400))).isEqualTo(4.0);
+    }
+
+    @Test
+    void testAppendSkipsChangeAlreadyLoaded() {
+        load("TLG-SKU-0001", change(200, 2.0), change(100, 1.0));
+        priceHistoryCache.append("TLG-SKU-0001", 200, 2.0);
+
+        assertThat(priceHistoryCache.get("TLG-SKU-0001").orElseThrow().size()).isEqualTo(2);
+    }
+
+    @Test
+    void testLoadRacingWithAppendIsNotCached() {
+        long writeStamp = priceHistoryCache.writeStamp("TLG-SKU-0001");
+        // the change is committed and appended while the load is still reading the older history
+        priceHistoryCache.append("TLG-SKU-0001", 200, 2.0);
+        PriceTimeline loaded = priceHistoryCache.put("TLG-SKU-0001", List.of(change(100, 1.0)), writeStamp);
+
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(priceHistoryCache.get("TLG-SKU-0001")).isEmpty();
+    }
+
+    @Test
+    void testAppendIgnoresUncachedSku() {
+        priceHistoryCache.append("TLG-SKU-0002", 100, 1.0);
+
+        assertThat(priceHistoryCache.get("TLG-SKU-0002")).isEmpty();
+    }
+
+    @Test
+    void testEvictsWhenFull() {
+        load("TLG-SKU-0001", change(100, 1.0));
+        load("TLG-SKU-0002", change(100, 1.0));
+        load("TLG-SKU-0003", change(100, 1.0));
+
+        assertThat(priceHistoryCache.get("TLG-SKU-0003")).isPresent();
+        assertThat(List.of("TLG-SKU-0001", "TLG-SKU-0002").stream().filter(sku -> priceHistoryCache.get(sku).isPresent())).hasSize(1);
+    }
+
+    private PriceTimeline load(String sku, PriceHistory... recentChanges) {
+        return priceHistoryCache.put(sku, List.of(recentChanges), priceHistoryCache.writeStamp(sku));
+    }
+
+    private static PriceHistory change(long epochMillis, double price) {
+        return PriceHistory.builder().sku("TLG-SKU-0001").price(price).changedAt(Instant.ofEpochMilli(epochMillis)).build();
+    }
+}
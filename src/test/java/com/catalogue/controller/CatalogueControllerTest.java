@@ -1,11 +1,16 @@
 package com.catalogue.controller;
 
 import com.catalogue.dto.ApiErrorResponse;
+import com.catalogue.dto.BulkDeleteResponse;
 import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.dto.PriceHistoryResponse;
+import com.catalogue.dto.ReconcileEvent;
 import com.catalogue.exceptions.DatabaseEmptyException;
 import com.catalogue.exceptions.ItemNotFoundException;
 import com.catalogue.models.CatalogueItem;
 import com.catalogue.service.CatalogueService;
+import com.catalogue.service.PriceHistoryService;
+import com.catalogue.service.ReconcileService;
 import com.catalogue.util.CatalogueItemGenerator;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -26,6 +31,7 @@ import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -39,6 +45,10 @@ public class CatalogueControllerTest {
 
     @MockBean
     private CatalogueService catalogueService;
+    @MockBean
+    private PriceHistoryService priceHistoryService;
+    @MockBean
+    private ReconcileService reconcileService;
     @Autowired
     private WebTestClient webTestClient;
 
@@ -155,6 +165,42 @@ public class CatalogueControllerTest {
                 .getResponseBody();
     }
 
+    @Test
+    @Order(75)
+    public void testRemoveCatalogueItemWhenNotPresent() {
+
+        given(catalogueService.removeCatalogueItem(any()))
+                .willReturn(Mono.error(new ItemNotFoundException("SKU not found")));
+        webTestClient
+                .delete()
+                .uri("/api/v1/{sku}", "TLG-SKU-XXXX")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+    }
+
+    @Test
+    @Order(76)
+    public void testRemoveCatalogueItems() {
+        BulkDeleteResponse bulkDeleteResponse = BulkDeleteResponse.builder().requested(3).deleted(2).build();
+
+        given(catalogueService.removeCatalogueItems(any()))
+                .willAnswer(invocation -> invocation.<Flux<String>>getArgument(0)
+                        .collectList()
+                        .filter(skus -> skus.equals(List.of("TLG-SKU-0001", "TLG-SKU-0002", "TLG-SKU-XXXX")))
+                        .map(skus -> bulkDeleteResponse));
+
+        webTestClient
+                .post()
+                .uri("/api/v1/bulk-delete")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("TLG-SKU-0001\nTLG-SKU-0002\n\nTLG-SKU-XXXX\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BulkDeleteResponse.class)
+                .isEqualTo(bulkDeleteResponse);
+    }
+
     @Test
     @Order(80)
     public void testUpdateCatalogueItem() {
@@ -172,4 +218,70 @@ public class CatalogueControllerTest {
                 .expectBody(CatalogueItemResponse.class)
                 .isEqualTo(updatedItemResponse);
     }
+
+    @Test
+    @Order(90)
+    public void testFindPriceAsOf() {
+        String sku = catalogueItem.getSku();
+        PriceHistoryResponse priceResponse = PriceHistoryResponse.builder().sku(sku).price(1000.0).changedAt(now).build();
+
+        when(priceHistoryService.findPriceAsOf(sku, now)).thenReturn(Mono.just(priceResponse));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/{sku}/price").queryParam("asOf", now.toString()).build(sku))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceHistoryResponse.class)
+                .isEqualTo(priceResponse);
+    }
+
+    @Test
+    @Order(100)
+    public void testFindPriceAsOfWhenNotPresent() {
+        when(priceHistoryService.findPriceAsOf(any(), any())).thenReturn(Mono.error(new ItemNotFoundException("Price not found")));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/{sku}/price").queryParam("asOf", now.toString()).build("TLG-SKU-0010"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @Order(110)
+    public void testFindPriceHistory() {
+        String sku = catalogueItem.getSku();
+        Flux<PriceHistoryResponse> history = Flux.just(1000.0, 1500.0)
+                .map(price -> PriceHistoryResponse.builder().sku(sku).price(price).changedAt(now).build());
+
+        when(priceHistoryService.getPriceHistory(sku)).thenReturn(history);
+
+        StepVerifier.create(webTestClient.get().uri("/api/v1/{sku}/price/history", sku).exchange()
+                        .expectStatus().isOk()
+                        .returnResult(PriceHistoryResponse.class)
+                        .getResponseBody())
+                .expectNextMatches(change -> change.getPrice() == 1000.0)
+                .expectNextMatches(change -> change.getPrice() == 1500.0)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    @Order(120)
+    public void testReconcileCatalogueItems() {
+        ReconcileEvent insertEvent = ReconcileEvent.builder().type(ReconcileEvent.Type.INSERT).sku(catalogueItem.getSku()).target(catalogueItem).build();
+
+        when(reconcileService.reconcile(any(), ArgumentMatchers.eq(true))).thenReturn(Flux.just(insertEvent));
+
+        StepVerifier.create(webTestClient.post()
+                        .uri("/api/v1/reconcile?apply=true")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(Flux.just(catalogueItem), CatalogueItem.class)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(ReconcileEvent.class)
+                        .getResponseBody())
+                .expectNext(insertEvent)
+                .expectComplete()
+                .verify();
+    }
 }
@@ -0,0 +1,83 @@
+package com.catalogue.controller;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.models.CatalogueItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CatalogueRSocketControllerTest {
+
+    @LocalRSocketServerPort
+    private int rsocketPort;
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    private RSocketRequester requester;
+
+    @BeforeEach
+    void connect() {
+        requester = requesterBuilder
+                .dataMimeType(MediaType.APPLICATION_CBOR)
+                .tcp("localhost", rsocketPort);
+    }
+
+    @AfterEach
+    void disconnect() {
+        requester.dispose();
+    }
+
+    @Test
+    void testFindBySku() {
+        StepVerifier.create(requester.route(CatalogueRSocketRoutes.GET_ITEM_BY_SKU, "TLG-SKU-0010")
+                        .retrieveMono(CatalogueItemResponse.class))
+                .expectNextMatches(item -> item.getSku().equals("TLG-SKU-0010") && item.getId() == 10L)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testFindBySkuWhenNotPresent() {
+        StepVerifier.create(requester.route(CatalogueRSocketRoutes.GET_ITEM_BY_SKU, "TLG-SKU-XXXX")
+                        .retrieveMono(CatalogueItemResponse.class))
+                .expectErrorMatches(throwable -> throwable.getMessage().contains("SKU not found"))
+                .verify();
+    }
+
+    @Test
+    void testStreamHonoursRequestN() {
+        StepVerifier.create(requester.route(CatalogueRSocketRoutes.GET_ITEMS_STREAM)
+                        .retrieveFlux(CatalogueItemResponse.class), 5)
+                .expectNextCount(5)
+                .thenRequest(10)
+                .expectNextCount(10)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testBulkUpdateChannel() {
+        Flux<CatalogueItem> updates = Flux.just("TLG-SKU-0020", "TLG-SKU-XXXX", "TLG-SKU-0021")
+                .map(sku -> CatalogueItem.builder().sku(sku).price(42.0).build());
+
+        StepVerifier.create(requester.route(CatalogueRSocketRoutes.UPDATE_CHANNEL)
+                        .data(updates, CatalogueItem.class)
+                        .retrieveFlux(CatalogueItemResponse.class))
+                .expectNextMatches(item -> item.getSku().equals("TLG-SKU-0020") && item.getPrice() == 42.0)
+                .expectNextMatches(item -> item.getSku().equals("TLG-SKU-0021") && item.getPrice() == 42.0)
+                .expectComplete()
+                .verify();
+    }
+}
@@ -0,0 +1,194 @@
+package com.catalogue.controller;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.service.CatalogueService;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Measures bytes on the wire and time-to-first-row of the NDJSON stream for the negotiated protocol,
+ * content encoding and content type. The raw Reactor Netty client is used so nothing is decompressed.
+ */
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CatalogueTransferTest {
+
+    private static final String STREAM_PATH = "/api/v1/stream";
+    private static final int SLOW_ROWS = 10;
+    private static final Duration SLOW_ROW_DELAY = Duration.ofMillis(300);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private WebTestClient webTestClient;
+    @SpyBean
+    private CatalogueService catalogueService;
+
+    @Test
+    void testStreamIsCompressedOnlyWhenNegotiated() {
+        WireStats plain = fetch(HttpClient.create(), MediaType.APPLICATION_NDJSON_VALUE, null);
+        WireStats gzip = fetch(HttpClient.create(), MediaType.APPLICATION_NDJSON_VALUE, "gzip");
+
+        assertThat(plain.contentEncoding()).isNull();
+        assertThat(gzip.contentEncoding()).isEqualTo("gzip");
+        assertThat(gzip.bytes()).isLessThan(plain.bytes() / 2);
+        // compressed output is flushed as the stream progresses rather than held back until completion
+        assertThat(gzip.chunks()).isGreaterThan(1);
+        assertThat(gzip.timeToFirstChunk()).isLessThan(gzip.total());
+    }
+
+    @Test
+    void testCompressedStreamDeliversFirstRowBeforeSourceCompletes() {
+        Flux<CatalogueItemResponse> slowSource = Flux.range(1, SLOW_ROWS)
+                .map(i -> CatalogueItemResponse.builder().id((long) i).sku(String.format("TLG-SKU-%04d", i)).build())
+                .delayElements(SLOW_ROW_DELAY);
+        doReturn(slowSource).when(catalogueService).getCatalogueItems();
+
+        EmbeddedChannel gunzip = new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
+        StringBuilder decompressed = new StringBuilder();
+        long start = System.nanoTime();
+        Duration timeToFirstRow = HttpClient.create().port(port)
+                .headers(headers -> headers.set(HttpHeaderNames.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                        .set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"))
+                .get()
+                .uri(STREAM_PATH)
+                .response((response, body) -> body
+                        .filter(chunk -> {
+                            gunzip.writeInbound(chunk.retain());
+                            for (ByteBuf out = gunzip.readInbound(); out != null; out = gunzip.readInbound()) {
+                                decompressed.append(out.toString(StandardCharsets.UTF_8));
+                                out.release();
+                            }
+                            return decompressed.indexOf("\n") >= 0;
+                        })
+                        .next()
+                        .map(chunk -> Duration.ofNanos(System.nanoTime() - start)))
+                .single()
+                .block(Duration.ofSeconds(30));
+        gunzip.finishAndReleaseAll();
+
+        // the first row is decompressible on its own long before the source has emitted every row
+        assertThat(decompressed.substring(0, decompressed.indexOf("\n"))).contains("\"sku\":\"TLG-SKU-0001\"");
+        assertThat(timeToFirstRow).isLessThan(SLOW_ROW_DELAY.multipliedBy(SLOW_ROWS / 2));
+    }
+
+    @Test
+    void testStreamOverH2c() {
+        WireStats h2c = fetch(HttpClient.create().protocol(HttpProtocol.H2C), MediaType.APPLICATION_NDJSON_VALUE, "gzip");
+
+        assertThat(h2c.version()).isEqualTo("HTTP/2.0");
+        assertThat(h2c.contentEncoding()).isEqualTo("gzip");
+        assertThat(h2c.chunks()).isGreaterThan(1);
+    }
+
+    @Test
+    void testStreamAsSmile() {
+        WireStats ndjson = fetch(HttpClient.create(), MediaType.APPLICATION_NDJSON_VALUE, null);
+        WireStats smile = fetch(HttpClient.create(), CatalogueMediaTypes.APPLICATION_STREAM_SMILE, null);
+
+        assertThat(smile.bytes()).isLessThan(ndjson.bytes());
+        webTestClient.get().uri(STREAM_PATH)
+                .accept(MediaType.parseMediaType(CatalogueMediaTypes.APPLICATION_STREAM_SMILE))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(CatalogueItemResponse.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextCount(1000)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testFindBySkuDefaultsToJson() {
+        webTestClient.get().uri("/api/v1/sku/{sku}", "TLG-SKU-0010")
+                .accept(MediaType.ALL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(CatalogueItemResponse.class)
+                .value(item -> assertThat(item.getSku()).isEqualTo("TLG-SKU-0010"));
+    }
+
+    @Test
+    void testFindByIdAsCbor() {
+        webTestClient.mutate()
+                .codecs(codecs -> codecs.customCodecs().register(new Jackson2CborDecoder()))
+                .build()
+                .get().uri("/api/v1/id/{id}", 10)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(CatalogueItemResponse.class)
+                .value(item -> assertThat(item.getSku()).isEqualTo("TLG-SKU-0010"));
+    }
+
+    private WireStats fetch(HttpClient httpClient, String accept, String acceptEncoding) {
+        long start = System.nanoTime();
+        return httpClient.port(port)
+                .headers(headers -> {
+                    headers.set(HttpHeaderNames.ACCEPT, accept);
+                    if (acceptEncoding != null) {
+                        headers.set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+                    }
+                })
+                .get()
+                .uri(STREAM_PATH)
+                .response((response, body) -> body
+                        .map(chunk -> new long[]{System.nanoTime(), chunk.readableBytes()})
+                        .collectList()
+                        .map(chunks -> WireStats.of(protocol(response),
+                                response.responseHeaders().get(HttpHeaderNames.CONTENT_ENCODING), start, chunks)))
+                .single()
+                .block(Duration.ofSeconds(30));
+    }
+
+    /**
+     * HTTP/2 responses are converted to HTTP/1.1 messages by the client, only the stream id header tells them apart.
+     */
+    private static String protocol(HttpClientResponse response) {
+        return response.responseHeaders().contains(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text())
+                ? "HTTP/2.0" : response.version().text();
+    }
+
+    record WireStats(String version, String contentEncoding, long bytes, int chunks, Duration timeToFirstChunk, Duration total) {
+
+        /**
+         * @param chunks arrival nano time and readable bytes of every received chunk
+         */
+        static WireStats of(String version, String contentEncoding, long start, List<long[]> chunks) {
+            Duration total = Duration.ofNanos(System.nanoTime() - start);
+            Duration firstChunk = chunks.isEmpty() ? total : Duration.ofNanos(chunks.get(0)[0] - start);
+            long bytes = chunks.stream().mapToLong(chunk -> chunk[1]).sum();
+            return new WireStats(version, contentEncoding, bytes, chunks.size(), firstChunk, total);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.catalogue.purge;
+
+import com.catalogue.IsolatedDatabaseTest;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.repository.CatalogueRepository;
+import com.catalogue.service.CatalogueService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IsolatedDatabaseTest
+class TombstonePurgerTest {
+
+    @Autowired
+    private CatalogueService catalogueService;
+    @Autowired
+    private CatalogueRepository catalogueRepository;
+    @Autowired
+    private TombstonePurger tombstonePurger;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testDeletedItemsAreHiddenThenPurged() {
+        // tombstones left behind by the other tests are purged as well
+        long tombstones = catalogueRepository.countByDeletedTrue().block();
+        double purgedBefore = meterRegistry.get("catalogue.purge.purged").counter().count();
+        Flux<String> skus = Flux.just("TLG-SKU-0101", "TLG-SKU-0102", "TLG-SKU-0103", "TLG-SKU-0104", "TLG-SKU-0105", "TLG-SKU-XXXX");
+        StepVerifier.create(catalogueService.removeCatalogueItems(skus))
+                .expectNextMatches(result -> result.getRequested() == 6 && result.getDeleted() == 5)
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(catalogueService.findBySku("TLG-SKU-0101"))
+                .expectError(ItemNotFoundException.class)
+                .verify();
+        StepVerifier.create(catalogueService.removeCatalogueItem("TLG-SKU-0101"))
+                .expectError(ItemNotFoundException.class)
+                .verify();
+        StepVerifier.create(catalogueRepository.countByDeletedTrue())
+                .expectNext(tombstones + 5)
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(tombstonePurger.purgeTombstones())
+                .expectNext((int) tombstones + 5)
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(catalogueRepository.countByDeletedTrue())
+                .expectNext(0L)
+                .expectComplete()
+                .verify();
+        assertThat(meterRegistry.get("catalogue.purge.backlog").gauge().value()).isZero();
+        assertThat(meterRegistry.get("catalogue.purge.purged").counter().count()).isEqualTo(purgedBefore + tombstones + 5);
+    }
+
+    @Test
+    void testBacklogIsRefreshedOnTicksOutsideThePurgeWindow() throws InterruptedException {
+        LocalTime now = LocalTime.now();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TombstonePurger closed = new TombstonePurger(catalogueRepository, registry, now.plusHours(1).toString(),
+                now.plusHours(2).toString(), 1, 1, Duration.ZERO, Duration.ofMinutes(1));
+        StepVerifier.create(catalogueService.removeCatalogueItem("TLG-SKU-0201"))
+                .verifyComplete();
+        long tombstones = catalogueRepository.countByDeletedTrue().block();
+
+        closed.purge();
+        Gauge backlog = registry.get("catalogue.purge.backlog").gauge();
+        for (int attempt = 0; attempt < 50 && backlog.value() != tombstones; attempt++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(backlog.value()).isEqualTo(tombstones);
+        assertThat(registry.get("catalogue.purge.purged").counter().count()).isZero();
+    }
+
+    @Test
+    void testPurgeWindowWrapsAroundMidnight() {
+        TombstonePurger nightly = new TombstonePurger(catalogueRepository, meterRegistry, "22:00", "04:00", 1, 1, Duration.ZERO, Duration.ofMinutes(1));
+
+        assertThat(nightly.inPurgeWindow(LocalTime.of(23, 0))).isTrue();
+        assertThat(nightly.inPurgeWindow(LocalTime.of(3, 59))).isTrue();
+        assertThat(nightly.inPurgeWindow(LocalTime.of(12, 0))).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.cache.PriceHistoryCache;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.models.CatalogueItem;
+import com.catalogue.models.PriceHistory;
+import com.catalogue.repository.PriceHistoryRepository;
+import com.catalogue.service.CatalogueService;
+import com.catalogue.service.PriceHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that creates and updates of the active {@link CatalogueService} write PRICE_HISTORY rows, and that as-of
+ * lookups give the same answer from the cached timeline as from the (SKU_NUMBER, CHANGED_AT) index.
+ * Subclasses pick the service implementation.
+ */
+abstract class AbstractPriceHistoryRecordingTest {
+
+    private static final String SKU = "TLG-SKU-9001";
+
+    @Autowired
+    private CatalogueService catalogueService;
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+    @Autowired
+    private PriceHistoryRepository priceHistoryRepository;
+    @Autowired
+    private PriceHistoryCache priceHistoryCache;
+
+    @Test
+    void testCreateAndUpdateRecordPriceChanges() throws InterruptedException {
+        StepVerifier.create(catalogueService.createCatalogueItem(item(10.0)))
+                .expectNextMatches(created -> created.getPrice() == 10.0)
+                .expectComplete()
+                .verify();
+        // keeps the two changes in distinct milliseconds, ties have no defined order in the index
+        Thread.sleep(5);
+        StepVerifier.create(catalogueService.updateCatalogueItem(SKU, item(12.5)))
+                .expectNextMatches(updated -> updated.getPrice() == 12.5)
+                .expectComplete()
+                .verify();
+        // an update keeping the price is not a price change
+        StepVerifier.create(catalogueService.updateCatalogueItem(SKU, item(12.5)))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify();
+
+        List<PriceHistory> changes = priceHistoryRepository.findBySkuOrderByChangedAtAsc(SKU).collectList().block();
+        assertThat(changes).extracting(PriceHistory::getPrice).containsExactly(10.0, 12.5);
+
+        List<Instant> asOfs = new ArrayList<>();
+        for (PriceHistory change : changes) {
+            asOfs.add(change.getChangedAt().minusMillis(1));
+            asOfs.add(change.getChangedAt());
+        }
+        asOfs.add(changes.get(changes.size() - 1).getChangedAt().plusSeconds(1));
+
+        priceHistoryCache.evict(SKU);
+        for (Instant asOf : asOfs) {
+            Optional<PriceHistory> fromIndex = priceHistoryRepository
+                    .findFirstBySkuAndChangedAtLessThanEqualOrderByChangedAtDesc(SKU, asOf)
+                    .blockOptional();
+            if (fromIndex.isPresent()) {
+                StepVerifier.create(priceHistoryService.findPriceAsOf(SKU, asOf))
+                        .expectNextMatches(price -> price.getPrice().equals(fromIndex.get().getPrice())
+                                && price.getChangedAt().equals(fromIndex.get().getChangedAt()))
+                        .expectComplete()
+                        .verify();
+            } else {
+                // as of before the first change
+                StepVerifier.create(priceHistoryService.findPriceAsOf(SKU, asOf))
+                        .expectError(ItemNotFoundException.class)
+                        .verify();
+            }
+            // the first lookup loaded the timeline, all others are answered from the cache
+            assertThat(priceHistoryCache.get(SKU)).isPresent();
+        }
+    }
+
+    private static CatalogueItem item(double price) {
+        return CatalogueItem.builder()
+                .sku(SKU)
+                .name("Price History Item")
+                .description("Item used to check price history recording")
+                .category("Kids Wear")
+                .price(price)
+                .inventory(10)
+                .build();
+    }
+}
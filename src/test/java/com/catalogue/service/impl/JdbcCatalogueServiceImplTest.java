@@ -0,0 +1,115 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.config.JdbcExecutionConfiguration;
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.exceptions.ItemNotFoundException;
+import com.catalogue.repository.jdbc.JdbcCatalogueRepository;
+import com.catalogue.service.CatalogueService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.blockhound.integration.BlockHoundIntegration;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JDBC backed service with BlockHound installed: any blocking JDBC call leaking onto a
+ * Netty event loop or a Reactor non-blocking thread fails the test with {@link BlockingOperationError}.
+ * Borrowing a pooled connection and executing a statement are marked as blocking explicitly, since neither
+ * is guaranteed to reach a JDK blocking primitive against an in-memory database. BlockHound instruments the
+ * whole JVM, so this class runs in its own surefire execution (see pom.xml).
+ */
+@ActiveProfiles(JdbcExecutionConfiguration.JDBC_PROFILE)
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class JdbcCatalogueServiceImplTest {
+
+    @Autowired
+    private CatalogueService catalogueService;
+    @Autowired
+    private JdbcCatalogueRepository jdbcCatalogueRepository;
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeAll
+    static void installBlockHound() {
+        BlockHound.install(new JdbcBlockHoundIntegration());
+    }
+
+    @Test
+    void testJdbcServiceIsSelectedByProfile() {
+        assertThat(catalogueService).isInstanceOf(JdbcCatalogueServiceImpl.class);
+    }
+
+    @Test
+    void testBlockHoundDetectsBlockingOnNonBlockingThread() {
+        StepVerifier.create(Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return "blocked";
+                }).subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
+
+    @Test
+    void testJdbcRepositoryOnNonBlockingThreadIsDetected() {
+        StepVerifier.create(Mono.fromCallable(() -> jdbcCatalogueRepository.findBySku("TLG-SKU-0010"))
+                        .subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
+
+    @Test
+    void testFindBySkuFromNonBlockingThread() {
+        StepVerifier.create(Mono.defer(() -> catalogueService.findBySku("TLG-SKU-0010")).subscribeOn(Schedulers.parallel()))
+                .expectNextMatches(item -> item.getSku().equals("TLG-SKU-0010"))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testFindBySkuWhenNotPresent() {
+        StepVerifier.create(Mono.defer(() -> catalogueService.findBySku("TLG-SKU-XXXX")).subscribeOn(Schedulers.parallel()))
+                .expectError(ItemNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testEndpointsOnNettyEventLoop() {
+        webTestClient.get().uri("/api/v1/id/{id}", 10).exchange()
+                .expectStatus().isOk()
+                .expectBody(CatalogueItemResponse.class)
+                .value(item -> assertThat(item.getId()).isEqualTo(10L));
+
+        webTestClient.get().uri("/api/v1/stream").exchange()
+                .expectStatus().isOk()
+                .returnResult(CatalogueItemResponse.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextCount(1000)
+                .expectComplete()
+                .verify();
+    }
+
+    static class JdbcBlockHoundIntegration implements BlockHoundIntegration {
+
+        @Override
+        public void applyTo(BlockHound.Builder builder) {
+            builder.markAsBlocking("com.zaxxer.hikari.HikariDataSource", "getConnection", "()Ljava/sql/Connection;")
+                    .markAsBlocking("org.h2.jdbc.JdbcPreparedStatement", "executeQuery", "()Ljava/sql/ResultSet;")
+                    .markAsBlocking("org.h2.jdbc.JdbcPreparedStatement", "executeUpdate", "()I")
+                    .markAsBlocking("org.h2.jdbc.JdbcPreparedStatement", "executeBatch", "()[I");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.IsolatedDatabaseTest;
+import com.catalogue.config.JdbcExecutionConfiguration;
+import org.springframework.test.context.ActiveProfiles;
+
+@IsolatedDatabaseTest
+@ActiveProfiles({JdbcExecutionConfiguration.JDBC_PROFILE, IsolatedDatabaseTest.PROFILE})
+class JdbcPriceHistoryRecordingTest extends AbstractPriceHistoryRecordingTest {
+}
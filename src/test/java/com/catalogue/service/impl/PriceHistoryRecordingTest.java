@@ -0,0 +1,7 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.IsolatedDatabaseTest;
+
+@IsolatedDatabaseTest
+class PriceHistoryRecordingTest extends AbstractPriceHistoryRecordingTest {
+}
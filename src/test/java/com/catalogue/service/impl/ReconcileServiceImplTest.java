@@ -0,0 +1,183 @@
+package com.catalogue.service.impl;
+
+import com.catalogue.IsolatedDatabaseTest;
+import com.catalogue.cache.CatalogueItemCache;
+import com.catalogue.cache.PriceHistoryCache;
+import com.catalogue.cache.PriceTimeline;
+import com.catalogue.dto.ReconcileEvent;
+import com.catalogue.exceptions.BadRequestException;
+import com.catalogue.mapper.CatalogueMapper;
+import com.catalogue.models.CatalogueItem;
+import com.catalogue.repository.CatalogueRepository;
+import com.catalogue.service.PriceHistoryService;
+import com.catalogue.service.ReconcileService;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@IsolatedDatabaseTest
+class ReconcileServiceImplTest {
+
+    @Autowired
+    private ReconcileService reconcileService;
+    @Autowired
+    private CatalogueRepository catalogueRepository;
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+    @Autowired
+    private PriceHistoryCache priceHistoryCache;
+    @Autowired
+    private CatalogueMapper catalogueMapper;
+    @Autowired
+    private CatalogueItemCache catalogueItemCache;
+    @Autowired
+    private ReactiveTransactionManager reactiveTransactionManager;
+    @Autowired
+    private Validator validator;
+
+    @Test
+    void testReconcileThenApply() {
+        List<CatalogueItem> feed = supplierFeed();
+
+        StepVerifier.create(reconcileService.reconcile(Flux.fromIterable(feed), false))
+                .expectNextMatches(event -> isEvent(event, ReconcileEvent.Type.DELETE, "TLG-SKU-0005"))
+                .expectNextMatches(event -> isEvent(event, ReconcileEvent.Type.UPDATE, "TLG-SKU-0010")
+                        && event.getCurrent().getPrice() == 10.0 && event.getTarget().getPrice() == 12.5)
+                .expectNextMatches(event -> isEvent(event, ReconcileEvent.Type.INSERT, "TLG-SKU-0010A"))
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(reconcileService.reconcile(Flux.fromIterable(feed), true))
+                .expectNextCount(3)
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(reconcileService.reconcile(Flux.fromIterable(feed), false))
+                .expectComplete()
+                .verify();
+        StepVerifier.create(catalogueRepository.findBySkuAndDeletedFalse("TLG-SKU-0010"))
+                .expectNextMatches(item -> item.getPrice() == 12.5)
+                .expectComplete()
+                .verify();
+        StepVerifier.create(catalogueRepository.findBySkuAndDeletedFalse("TLG-SKU-0005"))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testRolledBackBatchLeavesPriceCacheUntouched() {
+        double price = priceHistoryService.findPriceAsOf("TLG-SKU-0020", Instant.now()).block().getPrice();
+        int cachedChanges = priceHistoryCache.get("TLG-SKU-0020").orElseThrow().size();
+        // TLG-SKU-0020 is repriced, the update of TLG-SKU-0021 in the same batch exceeds ITEM_NAME and rolls it back
+        List<CatalogueItem> feed = catalogueRepository.findByDeletedFalseOrderBySkuAsc()
+                .map(item -> switch (item.getSku()) {
+                    case "TLG-SKU-0020" -> copy(item).price(price + 1).build();
+                    case "TLG-SKU-0021" -> copy(item).name("N".repeat(300)).build();
+                    default -> item;
+                })
+                .collectList()
+                .block();
+
+        StepVerifier.create(reconcileService.reconcile(Flux.fromIterable(feed), true))
+                .expectError()
+                .verify();
+
+        assertThat(priceHistoryCache.get("TLG-SKU-0020").orElseThrow().size()).isEqualTo(cachedChanges);
+        StepVerifier.create(priceHistoryService.findPriceAsOf("TLG-SKU-0020", Instant.now()))
+                .expectNextMatches(change -> change.getPrice() == price)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testUpdateOfItemDeletedSinceReadIsNotApplied() {
+        CatalogueItem stored = catalogueRepository.findBySkuAndDeletedFalse("TLG-SKU-0030").block();
+        int historySize = priceHistoryCache.get("TLG-SKU-0030").map(PriceTimeline::size).orElse(0);
+        List<CatalogueItem> feed = catalogueRepository.findByDeletedFalseOrderBySkuAsc()
+                .map(item -> item.getSku().equals("TLG-SKU-0030") ? copy(item).price(item.getPrice() + 1).build() : item)
+                .collectList()
+                .block();
+        // the item is tombstoned after the reconcile has read it, right before its update is applied
+        CatalogueRepository repository = mock(CatalogueRepository.class, delegatesTo(catalogueRepository));
+        doAnswer(invocation -> {
+            Mono<?> update = (Mono<?>) invocation.getMethod().invoke(catalogueRepository, invocation.getArguments());
+            return catalogueRepository.softDeleteBySku("TLG-SKU-0030", Instant.now()).then(update);
+        }).when(repository).updateContent(eq(stored.getId()), any(), any(), any(), any(), any(), any());
+        ReconcileService service = new ReconcileServiceImpl(repository, catalogueMapper, priceHistoryService,
+                catalogueItemCache, reactiveTransactionManager, validator, 2);
+
+        StepVerifier.create(service.reconcile(Flux.fromIterable(feed), true))
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(catalogueRepository.findById(stored.getId()))
+                .expectNextMatches(item -> item.getDeleted() && item.getPrice().equals(stored.getPrice()))
+                .expectComplete()
+                .verify();
+        assertThat(priceHistoryCache.get("TLG-SKU-0030").map(PriceTimeline::size).orElse(0)).isEqualTo(historySize);
+    }
+
+    @Test
+    void testUnsortedFeedIsRejected() {
+        Flux<CatalogueItem> feed = Flux.just("TLG-SKU-0002", "TLG-SKU-0001")
+                .map(sku -> CatalogueItem.builder().sku(sku).name("ITEM").description("ITEM DESC").category("Books")
+                        .price(1.0).inventory(1).build());
+
+        StepVerifier.create(reconcileService.reconcile(feed, false))
+                .expectErrorMatches(e -> e instanceof BadRequestException && e.getMessage().contains("sorted"))
+                .verify();
+    }
+
+    @Test
+    void testInvalidFeedItemIsRejected() {
+        Flux<CatalogueItem> feed = Flux.just(CatalogueItem.builder().sku("TLG-SKU-0001").name("ITEM").category("Books").build());
+
+        StepVerifier.create(reconcileService.reconcile(feed, true))
+                .expectErrorMatches(e -> e instanceof BadRequestException && e.getMessage().contains("price"))
+                .verify();
+    }
+
+    /**
+     * The stored catalogue with TLG-SKU-0005 removed, TLG-SKU-0010 repriced and TLG-SKU-0010A added.
+     */
+    private List<CatalogueItem> supplierFeed() {
+        return catalogueRepository.findByDeletedFalseOrderBySkuAsc()
+                .filter(item -> !item.getSku().equals("TLG-SKU-0005"))
+                .concatMap(item -> {
+                    if (!item.getSku().equals("TLG-SKU-0010")) {
+                        return Flux.just(item);
+                    }
+                    CatalogueItem repriced = CatalogueItem.builder().sku(item.getSku()).name(item.getName())
+                            .description(item.getDescription()).category(item.getCategory())
+                            .price(12.5).inventory(item.getInventory()).build();
+                    CatalogueItem added = CatalogueItem.builder().sku("TLG-SKU-0010A").name("ITEM 0010A")
+                            .description("ITEM DESC 0010A").category("Books").price(10.5).inventory(5).build();
+                    return Flux.just(repriced, added);
+                })
+                .collectList()
+                .block();
+    }
+
+    private static CatalogueItem.CatalogueItemBuilder copy(CatalogueItem item) {
+        return CatalogueItem.builder().sku(item.getSku()).name(item.getName()).description(item.getDescription())
+                .category(item.getCategory()).price(item.getPrice()).inventory(item.getInventory());
+    }
+
+    private static boolean isEvent(ReconcileEvent event, ReconcileEvent.Type type, String sku) {
+        return event.getType() == type && event.getSku().equals(sku);
+    }
+}
@@ -0,0 +1,59 @@
+package com.catalogue.warmup;
+
+import com.catalogue.ReactiveCatalogueCrudApplication;
+import com.catalogue.cache.CatalogueItemCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = ReactiveCatalogueCrudApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CatalogueWarmUpTest {
+
+    private static final List<String> HOT_SKUS = List.of("TLG-SKU-0001", "TLG-SKU-0002", "TLG-SKU-0003", "TLG-SKU-XXXX");
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private CatalogueWarmUp catalogueWarmUp;
+    @Autowired
+    private CatalogueItemCache catalogueItemCache;
+
+    @DynamicPropertySource
+    static void hotSkusFile(DynamicPropertyRegistry registry) throws IOException {
+        Path hotSkusFile = Files.createTempFile("catalogue-hot-skus", ".txt");
+        Files.write(hotSkusFile, HOT_SKUS);
+        registry.add("catalogue.warm-up.hot-skus-file", hotSkusFile::toString);
+    }
+
+    @Test
+    void testReadinessIsUpOnceHotSkusAreLoaded() throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !catalogueWarmUp.isFinished(); attempt++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(catalogueWarmUp.progress())
+                .containsEntry("state", CatalogueWarmUp.State.COMPLETED)
+                .containsEntry("loaded", 3)
+                .containsEntry("total", 4);
+        assertThat(catalogueItemCache.getBySku("TLG-SKU-0001")).isPresent();
+
+        webTestClient.get().uri("/actuator/health/readiness").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("UP")
+                .jsonPath("$.components.warmUp.details.loaded").isEqualTo(3);
+    }
+}
@@ -0,0 +1,78 @@
+package com.catalogue.warmup;
+
+import com.catalogue.cache.HotSkuTracker;
+import com.catalogue.dto.CatalogueItemResponse;
+import com.catalogue.service.CatalogueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmUpHealthIndicatorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final CatalogueService catalogueService = mock(CatalogueService.class);
+    private HotSkuTracker hotSkuTracker;
+
+    @BeforeEach
+    void persistHotSkus() throws IOException {
+        Path hotSkusFile = Files.write(tempDir.resolve("hot-skus.txt"), List.of("TLG-SKU-0001", "TLG-SKU-0002"));
+        hotSkuTracker = new HotSkuTracker(2, hotSkusFile.toString());
+    }
+
+    @Test
+    void testDownWhilePending() {
+        CatalogueWarmUp warmUp = new CatalogueWarmUp(catalogueService, hotSkuTracker, Duration.ofMinutes(1), 2);
+
+        Health health = new WarmUpHealthIndicator(warmUp).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("state", CatalogueWarmUp.State.PENDING);
+    }
+
+    @Test
+    void testDownWhileRunning() {
+        when(catalogueService.findBySku(anyString())).thenReturn(Mono.never());
+        CatalogueWarmUp warmUp = new CatalogueWarmUp(catalogueService, hotSkuTracker, Duration.ofMinutes(1), 2);
+        warmUp.warmUp();
+
+        Health health = new WarmUpHealthIndicator(warmUp).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails())
+                .containsEntry("state", CatalogueWarmUp.State.RUNNING)
+                .containsEntry("loaded", 0)
+                .containsEntry("total", 2)
+                .containsKey("elapsed");
+    }
+
+    @Test
+    void testUpOnceCompleted() {
+        when(catalogueService.findBySku(anyString()))
+                .thenAnswer(invocation -> Mono.just(CatalogueItemResponse.builder().sku(invocation.getArgument(0)).build()));
+        CatalogueWarmUp warmUp = new CatalogueWarmUp(catalogueService, hotSkuTracker, Duration.ofMinutes(1), 2);
+        warmUp.warmUp();
+
+        Health health = new WarmUpHealthIndicator(warmUp).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("state", CatalogueWarmUp.State.COMPLETED)
+                .containsEntry("loaded", 2);
+    }
+}